@@ -5,6 +5,7 @@ import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.mygdx.game.GameEngine;
 import com.mygdx.game.ScreenManager;
+import com.mygdx.game.Telemetry;
 
 /**
  * DesktopLauncher class is one of many platforms provided by
@@ -17,7 +18,8 @@ public class DesktopLauncher {
 	
 	/**
 	 * Detects computer's window size and sets the window to 
-	 * these dimensions to be fullscreen.
+	 * these dimensions to be fullscreen. Flight Recorder events are
+	 * emitted if JFR support is on the classpath.
 	 * @param arg main
 	 */
 	public static void main (String[] arg) {
@@ -27,7 +29,7 @@ public class DesktopLauncher {
 		config.title = "Sentient Ball Pit";
 		config.fullscreen = true;
 		//new LwjglApplication(new GameEngine(), config); // bypasses screens
-		new LwjglApplication(new ScreenManager(), config);
+		new LwjglApplication(new ScreenManager(Telemetry.load()), config);
 		GameEngine.setWinHeight(displayMode.height);
 		GameEngine.setWinWidth(displayMode.width);
 	}
@@ -0,0 +1,180 @@
+package com.mygdx.game;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JfrTelemetry class turns the simulation's telemetry into Java Flight
+ * Recorder events, so that a recording of a bad session shows which
+ * stage a hitch happened in next to the GC and JIT events. Each event
+ * type is checked before an event is created, so nothing is allocated
+ * while no recording has it enabled. Loaded by Telemetry.load.
+ *
+ * Record with -XX:StartFlightRecording=filename=game.jfr.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class JfrTelemetry extends Telemetry {
+
+	/**   */
+	private static final EventType STAGE = EventType.getEventType(StageEvent.class);
+
+	/**   */
+	private static final EventType SPAWN = EventType.getEventType(SpawnEvent.class);
+
+	/**   */
+	private static final EventType DEMON = EventType.getEventType(DemonEvent.class);
+
+	/**   */
+	private static final EventType CONTACTS = EventType.getEventType(ContactEvent.class);
+
+	/**
+	 * Event of the stage each thread is running, null if not recorded.
+	 * Per thread since simulations may run on several at once.
+	 */
+	private final ThreadLocal<StageEvent> stage = new ThreadLocal<StageEvent>();
+
+	@Override
+	public boolean isEnabled() {
+		return CONTACTS.isEnabled();
+	}
+
+	@Override
+	public void stageBegin(final PipelineStage s) {
+		if (STAGE.isEnabled()) {
+			StageEvent e = new StageEvent();
+			e.name = s.getName();
+			e.begin();
+			stage.set(e);
+		}
+	}
+
+	@Override
+	public void stageEnd(final PipelineStage s) {
+		if (STAGE.isEnabled()) {
+			StageEvent e = stage.get();
+			if (e != null) {
+				e.commit();
+				stage.set(null);
+			}
+		}
+	}
+
+	@Override
+	public void spawned(final EntityType type, final int requested, final int spawned) {
+		if (SPAWN.isEnabled()) {
+			SpawnEvent e = new SpawnEvent();
+			e.type = type.name();
+			e.requested = requested;
+			e.spawned = spawned;
+			e.commit();
+		}
+	}
+
+	@Override
+	public void demonSpawned() {
+		demon(false);
+	}
+
+	@Override
+	public void demonSlain() {
+		demon(true);
+	}
+
+	/**
+	 *
+	 * @param slain true if the demon died
+	 */
+	private void demon(final boolean slain) {
+		if (DEMON.isEnabled()) {
+			DemonEvent e = new DemonEvent();
+			e.slain = slain;
+			e.commit();
+		}
+	}
+
+	@Override
+	public void contacts(final EntityType a, final EntityType b, final int count) {
+		ContactEvent e = new ContactEvent();
+		e.typeA = a.name();
+		e.typeB = b.name();
+		e.count = count;
+		e.commit();
+	}
+
+	/**
+	 * One run of a pipeline stage.
+	 */
+	@Name("com.mygdx.game.Stage")
+	@Label("Pipeline Stage")
+	@Category({"Game", "Simulation"})
+	@Description("One run of a tick or frame stage")
+	@StackTrace(false)
+	static class StageEvent extends Event {
+
+		/**   */
+		@Label("Stage")
+		String name;
+	}
+
+	/**
+	 * Enemies spawned together.
+	 */
+	@Name("com.mygdx.game.Spawn")
+	@Label("Enemy Spawn")
+	@Category({"Game", "Enemies"})
+	static class SpawnEvent extends Event {
+
+		/**   */
+		@Label("Type")
+		String type;
+
+		/**   */
+		@Label("Requested")
+		int requested;
+
+		/**   */
+		@Label("Spawned")
+		int spawned;
+	}
+
+	/**
+	 * A demon spawned or slain.
+	 */
+	@Name("com.mygdx.game.Demon")
+	@Label("Demon")
+	@Category({"Game", "Enemies"})
+	static class DemonEvent extends Event {
+
+		/**   */
+		@Label("Slain")
+		boolean slain;
+	}
+
+	/**
+	 * Contacts begun during one step between two entity types.
+	 */
+	@Name("com.mygdx.game.Contacts")
+	@Label("Contacts")
+	@Category({"Game", "Physics"})
+	@StackTrace(false)
+	static class ContactEvent extends Event {
+
+		/**   */
+		@Label("Type A")
+		String typeA;
+
+		/**   */
+		@Label("Type B")
+		String typeB;
+
+		/**   */
+		@Label("Count")
+		int count;
+	}
+}
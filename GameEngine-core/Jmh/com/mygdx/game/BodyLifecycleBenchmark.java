@@ -0,0 +1,72 @@
+package com.mygdx.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the life of an enemy body: spawning a swarmer, removing it
+ * from the enemy store as EnemyManager does once it dies, and
+ * destroying its body when the destruction queue is drained after the
+ * step. This is the work GameEngine.manageBodies used to do each frame,
+ * measured with a number of other swarmers alive in the world.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyLifecycleBenchmark {
+
+	/** Swarmers already in the world. */
+	@Param({"0", "1000"})
+	private int swarmers;
+
+	/**   */
+	private Simulation sim;
+
+	/**   */
+	private EnemyStore store;
+
+	/**
+	 * Builds a simulation with the swarmers scattered over the arena.
+	 */
+	@Setup
+	public void setUp() {
+		sim = SimulationBenchmark.build(swarmers);
+		store = sim.getEnemyManager().getStore();
+	}
+
+	/**
+	 * Releases the world.
+	 */
+	@TearDown
+	public void tearDown() {
+		sim.dispose();
+	}
+
+	/**
+	 * Spawns a swarmer, kills it and destroys its body.
+	 */
+	@Benchmark
+	public void spawnAndDestroy() {
+		Enemy swarmer = new Enemy(sim, EntityType.SWARMER, 10, 10);
+		swarmer.setDeletable();
+		store.remove(swarmer.getSlot());
+		sim.getDestructionQueue().drain(sim.getWorld());
+	}
+}
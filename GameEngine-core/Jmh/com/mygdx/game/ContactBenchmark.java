@@ -0,0 +1,245 @@
+package com.mygdx.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of one contact through Listener: recording it as
+ * beginContact does during the step, then resolving it afterwards.
+ * The contacts are a swarm fight mix of projectiles hitting enemies in
+ * both orders, enemies touching each other and projectiles bouncing
+ * off walls. The enemies cannot die, so every step does the same work.
+ * The same contacts are also classified the way Listener did before its
+ * dispatch table, by comparing the class names of both fixtures.
+ * Enemies and projectiles no longer have a class per type, so the name
+ * each had is rebuilt from its type, which concatenates the same
+ * strings Class.toString did.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactBenchmark {
+
+	/** Contacts recorded per simulated step. */
+	private static final int CONTACTS_PER_STEP = 256;
+
+	/**   */
+	private Simulation sim;
+
+	/**   */
+	private Listener listener;
+
+	/** Fixture user data of each contact's first side. */
+	private Object[] objA;
+
+	/** Fixture user data of each contact's second side. */
+	private Object[] objB;
+
+	/** Body type of each contact's first side. */
+	private EntityType[] typeA;
+
+	/** Body type of each contact's second side. */
+	private EntityType[] typeB;
+
+	/**   */
+	private LegacyListener legacy;
+
+	/**
+	 * Builds the contacts.
+	 */
+	@Setup
+	public void setUp() {
+		sim = SimulationBenchmark.build(0);
+		listener = new Listener(sim);
+		objA = new Object[CONTACTS_PER_STEP];
+		objB = new Object[CONTACTS_PER_STEP];
+		typeA = new EntityType[CONTACTS_PER_STEP];
+		typeB = new EntityType[CONTACTS_PER_STEP];
+		legacy = new LegacyListener();
+		for (int i = 0; i < CONTACTS_PER_STEP; i++) {
+			Enemy swarmer = new Enemy(sim, EntityType.SWARMER, 10 + i % 50, 10 + i / 50);
+			swarmer.setHealth(Float.MAX_VALUE);
+			Projectile proj = new Projectile(sim, EntityType.PLAYER_PROJECTILE,
+					GameEngine.PLAYER_PROJECTILE_SPEED);
+			switch (i % 5) {
+			case 0:
+				set(i, swarmer, EntityType.SWARMER, proj, EntityType.PLAYER_PROJECTILE);
+				break;
+			case 1:
+				set(i, proj, EntityType.PLAYER_PROJECTILE, swarmer, EntityType.SWARMER);
+				break;
+			case 2:
+			case 3:
+				set(i, swarmer, EntityType.SWARMER, swarmer, EntityType.SWARMER);
+				break;
+			default:
+				set(i, sim, EntityType.WALL, proj, EntityType.PLAYER_PROJECTILE);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Releases the world.
+	 */
+	@TearDown
+	public void tearDown() {
+		sim.dispose();
+	}
+
+	/**
+	 *
+	 * @param i contact index
+	 * @param a first user data
+	 * @param tA first type
+	 * @param b second user data
+	 * @param tB second type
+	 */
+	private void set(final int i, final Object a, final EntityType tA,
+			final Object b, final EntityType tB) {
+		objA[i] = a;
+		typeA[i] = tA;
+		objB[i] = b;
+		typeB[i] = tB;
+	}
+
+	/**
+	 * Records and resolves one step's contacts.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(CONTACTS_PER_STEP)
+	public void dispatch() {
+		for (int i = 0; i < CONTACTS_PER_STEP; i++) {
+			listener.record(objA[i], typeA[i], objB[i], typeB[i]);
+		}
+		listener.resolveContacts();
+	}
+
+	/**
+	 * Classifies and applies one step's contacts by their class names.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(CONTACTS_PER_STEP)
+	public void stringCompare() {
+		for (int i = 0; i < CONTACTS_PER_STEP; i++) {
+			legacy.beginContact(objA[i], objB[i]);
+		}
+	}
+
+	/**
+	 * The classification Listener used before the dispatch table:
+	 * both fixtures' class names are built and compared as strings.
+	 */
+	private static class LegacyListener {
+
+		/**   */
+		private String a;
+
+		/**   */
+		private String b;
+
+		/**   */
+		private String path = "class com.mygdx.game.";
+
+		/** Class of each type before they were data, by ordinal. */
+		private String[] classes = {"Player", "PlayerProjectile", "EnemyProjectile",
+			"Swarmer", "Spitter", "Demon"};
+
+		/**
+		 * Returns the class name the user data had as a string.
+		 * @param obj user data of a fixture
+		 * @return class name
+		 */
+		private String className(final Object obj) {
+			if (obj instanceof Enemy) {
+				return path + classes[((Enemy) obj).getType().ordinal()];
+			}
+			if (obj instanceof Projectile) {
+				return path + classes[((Projectile) obj).getType().ordinal()];
+			}
+			return obj.getClass().toString();
+		}
+
+		/**
+		 *
+		 * @param objA user data of fixture A
+		 * @param objB user data of fixture B
+		 */
+		void beginContact(final Object objA, final Object objB) {
+			a = className(objA);
+			b = className(objB);
+			if (a.equals(path + "PlayerProjectile")) {
+				a = "playerpProj";
+			} else if (b.equals(path + "PlayerProjectile")) {
+				b = "playerpProj";
+			}
+			if (a.equals(path + "EnemyProjectile")) {
+				a = "enemyProj";
+			} else if (b.equals(path + "EnemyProjectile")) {
+				b = "enemyProj";
+			}
+			if (a.equals(path + "Player")) {
+				a = "player";
+			} else if (b.equals(path + "Player")) {
+				b = "player";
+			}
+			if (a.equals(path + "Swarmer")) {
+				a = "swarmer";
+			} else if (b.equals(path + "Swarmer")) {
+				b = "swarmer";
+			}
+			if (a.equals(path + "Spitter")) {
+				a = "spitter";
+			} else if (b.equals(path + "Spitter")) {
+				b = "spitter";
+			}
+			if (a.equals(path + "Demon")) {
+				a = "demon";
+			} else if (b.equals(path + "Demon")) {
+				b = "demon";
+			}
+			if ((a.equals("swarmer") || a.equals("spitter") || a.equals("demon"))
+					&& b.equals("playerpProj")) {
+				Enemy e = (Enemy) objA;
+				Projectile p = (Projectile) objB;
+				e.takeDamage(p.getBulletDamage());
+				p.setDeletable();
+			} else if (a.equals("playerpProj")
+					&& (b.equals("swarmer") || b.equals("spitter") || b.equals("demon"))) {
+				Enemy e = (Enemy) objB;
+				Projectile p = (Projectile) objA;
+				e.takeDamage(p.getBulletDamage());
+				p.setDeletable();
+			}
+			if ((a.equals("swarmer") || a.equals("spitter") || a.equals("demon"))
+					&& b.equals("player")) {
+				return;
+			} else if (a.equals("player")
+					&& (b.equals("swarmer") || b.equals("spitter") || b.equals("demon"))) {
+				return;
+			}
+			if (a.equals("player") && b.equals("enemyProj")) {
+				return;
+			} else if (a.equals("enemyProj") && b.equals("player")) {
+				return;
+			}
+		}
+	}
+}
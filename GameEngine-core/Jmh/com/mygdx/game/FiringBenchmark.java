@@ -0,0 +1,97 @@
+package com.mygdx.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures firing projectiles from their pools and returning them once
+ * expired, one shot per tick, for the player's gun and shotgun and a
+ * spitter's weapon. After warmup the pools have grown to the steady
+ * number of live projectiles, so no bodies are created while measuring.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiringBenchmark {
+
+	/**   */
+	private Simulation sim;
+
+	/**   */
+	private Player player;
+
+	/** Fires the spitter's volleys. */
+	private WeaponSystem weapons;
+
+	/**   */
+	private EnemyStore store;
+
+	/** Slot of a spitter standing next to the player. */
+	private int spitter;
+
+	/**
+	 * Builds an empty arena with a spitter in it.
+	 */
+	@Setup
+	public void setUp() {
+		sim = SimulationBenchmark.build(0);
+		player = sim.getPlayer();
+		player.setPos();
+		store = sim.getEnemyManager().getStore();
+		spitter = new Enemy(sim, EntityType.SPITTER,
+				player.getX() + 20, player.getY()).getSlot();
+		weapons = new WeaponSystem(sim.getEnemyManager().getProjectilePool());
+	}
+
+	/**
+	 * Releases the world.
+	 */
+	@TearDown
+	public void tearDown() {
+		sim.dispose();
+	}
+
+	/**
+	 * Fires one player projectile and frees the expired ones.
+	 */
+	@Benchmark
+	public void fireProjectile() {
+		player.fireProjectile(player.getX() + 10, player.getY() + 5);
+		player.manageProjectiles(SimulationBenchmark.STEP);
+	}
+
+	/**
+	 * Fires one shotgun blast and frees the expired projectiles.
+	 */
+	@Benchmark
+	public void fireShotgun() {
+		player.fireShotgun(player.getX() + 10, player.getY() + 5);
+		player.manageProjectiles(SimulationBenchmark.STEP);
+	}
+
+	/**
+	 * Fires one enemy projectile at the player and frees the expired
+	 * ones.
+	 */
+	@Benchmark
+	public void fireWeapon() {
+		weapons.fire(store, spitter, player.getX(), player.getY());
+		sim.getEnemyManager().getProjectilePool().update(SimulationBenchmark.STEP);
+	}
+}
@@ -0,0 +1,101 @@
+package com.mygdx.game;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the worst tick of the flow field at the full arena size and
+ * the game's cell size: the player has moved to another cell, so the
+ * search restarts, and every swarmer's cell is resolved. The swarmers
+ * are scattered over the whole arena, which is where they spawn. The
+ * range is compared against a search over the whole arena.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowFieldBenchmark {
+
+	/** Width of the arena in meters. */
+	private static final int WIDTH = SimulationBenchmark.VIEW_WIDTH * GameEngine.ARENA_SCREENS;
+
+	/** Height of the arena in meters. */
+	private static final int HEIGHT = SimulationBenchmark.VIEW_HEIGHT * GameEngine.ARENA_SCREENS;
+
+	/** Width and height of a cell in meters, as in EnemyManager. */
+	private static final float CELL_SIZE = 4f;
+
+	/** Most steps searched, 0 for the whole arena. */
+	@Param({"64", "0"})
+	private int range;
+
+	/** Swarmers resolved per tick. */
+	@Param({"50", "2000"})
+	private int swarmers;
+
+	/**   */
+	private FlowField field;
+
+	/** X coordinate of each swarmer. */
+	private float[] x;
+
+	/** Y coordinate of each swarmer. */
+	private float[] y;
+
+	/** Player's X coordinate, moved one cell per tick. */
+	private float playerX;
+
+	/**
+	 * Builds the field and scatters the swarmers.
+	 */
+	@Setup
+	public void setUp() {
+		if (range == 0) {
+			field = new FlowField(WIDTH, HEIGHT, CELL_SIZE);
+		} else {
+			field = new FlowField(WIDTH, HEIGHT, CELL_SIZE, range);
+		}
+		Random rand = new Random(350);
+		x = new float[swarmers];
+		y = new float[swarmers];
+		for (int i = 0; i < swarmers; i++) {
+			x[i] = rand.nextFloat() * WIDTH;
+			y[i] = rand.nextFloat() * HEIGHT;
+		}
+		playerX = WIDTH / 2;
+	}
+
+	/**
+	 * Moves the player one cell, then resolves every swarmer's cell.
+	 * @return last cell resolved
+	 */
+	@Benchmark
+	public int restartAndResolve() {
+		playerX += CELL_SIZE;
+		if (playerX >= WIDTH * 3 / 4) {
+			playerX = WIDTH / 4;
+		}
+		field.update(playerX, HEIGHT / 2);
+		int cell = 0;
+		for (int i = 0; i < swarmers; i++) {
+			cell = field.resolve(x[i], y[i]);
+		}
+		return cell;
+	}
+}
@@ -0,0 +1,74 @@
+package com.mygdx.game;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures Simulation.reset after a session played by the bot, until
+ * it died or a minute had passed. Each measurement is a single reset,
+ * since the session before it has to be played again.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class RestartBenchmark {
+
+	/** Most ticks in a session, a simulated minute. */
+	private static final int SESSION_TICKS = 60 * 60;
+
+	/**   */
+	private Simulation sim;
+
+	/**
+	 * Builds the simulation.
+	 */
+	@Setup
+	public void setUp() {
+		sim = SimulationBenchmark.build(0);
+	}
+
+	/**
+	 * Releases the world.
+	 */
+	@TearDown
+	public void tearDown() {
+		sim.dispose();
+	}
+
+	/**
+	 * Plays a session to reset.
+	 */
+	@Setup(Level.Iteration)
+	public void play() {
+		for (int t = 0; t < SESSION_TICKS && !sim.isOver(); t++) {
+			sim.tick(SimulationBenchmark.STEP);
+		}
+	}
+
+	/**
+	 * Resets the simulation for the next session.
+	 * @return ticks after the reset
+	 */
+	@Benchmark
+	public long reset() {
+		sim.reset();
+		return sim.getTicks();
+	}
+}
@@ -0,0 +1,128 @@
+package com.mygdx.game;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+
+/**
+ * Measures one simulation tick and its costliest parts, the enemy
+ * manager update, the Box2D world step and the player update, with a
+ * number of swarmers already in the arena. The simulation is rebuilt
+ * for every iteration since the enemy manager keeps spawning, so each
+ * iteration starts from the same state.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+
+	/** Viewport width in meters of a 1920 pixel wide window. */
+	static final int VIEW_WIDTH = 320;
+
+	/** Viewport height in meters of a 1080 pixel high window. */
+	static final int VIEW_HEIGHT = 180;
+
+	/** Simulated seconds per tick. */
+	static final float STEP = 1 / GameEngine.TICK_RATE;
+
+	/** Swarmers placed in the arena before measuring. */
+	@Param({"0", "250", "1000", "4000"})
+	private int swarmers;
+
+	/**   */
+	private Simulation sim;
+
+	/**   */
+	private Player player;
+
+	/** Number of player updates run, used to alternate direction. */
+	private int moves;
+
+	/**
+	 * Builds a simulation with the swarmers scattered over the arena.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		sim = build(swarmers);
+		player = sim.getPlayer();
+	}
+
+	/**
+	 * Releases the world.
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		sim.dispose();
+	}
+
+	/**
+	 * Builds a simulation with a bot at the controls and a number of
+	 * swarmers scattered over the arena.
+	 * @param swarmers number of swarmers
+	 * @return simulation
+	 */
+	static Simulation build(final int swarmers) {
+		Box2D.init();
+		Simulation sim = new Simulation(VIEW_WIDTH * GameEngine.ARENA_SCREENS,
+				VIEW_HEIGHT * GameEngine.ARENA_SCREENS, new BotControls(350));
+		Random rand = new Random(350);
+		for (int i = 0; i < swarmers; i++) {
+			new Enemy(sim, EntityType.SWARMER, 1 + rand.nextFloat() * (sim.getArenaWidth() - 2),
+					1 + rand.nextFloat() * (sim.getArenaHeight() - 2));
+		}
+		return sim;
+	}
+
+	/**
+	 * Runs every tick stage once.
+	 */
+	@Benchmark
+	public void tick() {
+		sim.tick(STEP);
+	}
+
+	/**
+	 * Updates enemy timers, spawning, steering and flocking.
+	 */
+	@Benchmark
+	public void enemyManagerUpdate() {
+		sim.getEnemyManager().update(player.getX(), player.getY(), STEP);
+	}
+
+	/**
+	 * Steps the Box2D world with the game's solver iterations.
+	 */
+	@Benchmark
+	public void worldStep() {
+		sim.getWorld().step(STEP, 6, 2);
+	}
+
+	/**
+	 * Moves the player, turning every second.
+	 */
+	@Benchmark
+	public void playerUpdate() {
+		boolean right = (moves++ / (int) GameEngine.TICK_RATE) % 2 == 0;
+		player.update(right, !right, right, !right, STEP);
+	}
+}
@@ -0,0 +1,117 @@
+package com.mygdx.game;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how swarmer steering scales with the number of threads.
+ * Each operation is one tick's steering towards a moving target, with
+ * the flow field restarted whenever the target changes cell, as in
+ * game. Applying velocities to bodies stays on the main thread and
+ * costs the same regardless of the thread count, so it is left out.
+ * Thread counts above the machine's cores only measure the overhead
+ * of the hand-off.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SteeringBenchmark {
+
+	/** Width of the area swarmers are scattered over in meters. */
+	private static final int WIDTH = SimulationBenchmark.VIEW_WIDTH * GameEngine.ARENA_SCREENS;
+
+	/** Height of the area swarmers are scattered over in meters. */
+	private static final int HEIGHT = SimulationBenchmark.VIEW_HEIGHT * GameEngine.ARENA_SCREENS;
+
+	/** Width and height of a flow field cell in meters, as in EnemyManager. */
+	private static final float CELL_SIZE = 4f;
+
+	/** Most steps the flow field searches, as in EnemyManager. */
+	private static final int RANGE = 64;
+
+	/** Threads steering, including the benchmark's own. */
+	@Param({"1", "2", "4"})
+	private int threads;
+
+	/** Swarmers steered per tick. */
+	@Param({"1000", "5000", "20000"})
+	private int swarmers;
+
+	/** Workers for every thread but the benchmark's, null if single threaded. */
+	private ExecutorService workers;
+
+	/**   */
+	private ParallelSteering steering;
+
+	/**   */
+	private EnemyStore store;
+
+	/**   */
+	private FlowField field;
+
+	/** Ticks run so far, which move the target. */
+	private int tick;
+
+	/**
+	 * Scatters the swarmers and starts the workers.
+	 */
+	@Setup
+	public void setUp() {
+		Random rand = new Random(350);
+		store = new EnemyStore();
+		for (int i = 0; i < swarmers; i++) {
+			store.add(null, EnemyArchetype.of(EntityType.SWARMER), null,
+					rand.nextFloat() * WIDTH, rand.nextFloat() * HEIGHT);
+			store.getPushTime()[i] = 2f;
+		}
+		field = new FlowField(WIDTH, HEIGHT, CELL_SIZE, RANGE);
+		if (threads > 1) {
+			workers = Executors.newFixedThreadPool(threads - 1);
+		}
+		steering = new ParallelSteering(workers, threads, 0);
+	}
+
+	/**
+	 * Stops the workers.
+	 */
+	@TearDown
+	public void tearDown() {
+		if (workers != null) {
+			workers.shutdown();
+		}
+	}
+
+	/**
+	 * Steers every swarmer towards a target moving along the diagonal.
+	 * @return velocity of the first swarmer
+	 */
+	@Benchmark
+	public float steer() {
+		tick++;
+		float x = (tick / 10) % WIDTH;
+		float y = (tick / 10) % HEIGHT;
+		field.update(x, y);
+		steering.steer(store, field, x, y);
+		return store.getVelocityX()[0];
+	}
+}
@@ -0,0 +1,190 @@
+package com.mygdx.game;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Measures a tick of a swarm chasing a fixed player, with and without
+ * flocking: steering, flocking, handing the velocities to the bodies
+ * and the world step. The swarm spawns in one corner and has reached
+ * the player by the time measuring starts. The touching swarmer pairs
+ * and the ticks run are counted outside the measured tick, so their
+ * ratio gives the contacts per step flocking is meant to cut.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwarmContactBenchmark {
+
+	/** Width of the arena in meters. */
+	private static final int WIDTH = SimulationBenchmark.VIEW_WIDTH;
+
+	/** Height of the arena in meters. */
+	private static final int HEIGHT = SimulationBenchmark.VIEW_HEIGHT;
+
+	/** Ticks simulated before measuring, enough to reach the player. */
+	private static final int SETTLE_TICKS = 600;
+
+	/** Simulated seconds per tick. */
+	private static final float STEP = 1 / GameEngine.TICK_RATE;
+
+	/** Swarmers chasing the player. */
+	@Param({"250", "1000"})
+	private int swarmers;
+
+	/** True to spread the swarm with a Flock. */
+	@Param({"false", "true"})
+	private boolean flocking;
+
+	/**   */
+	private Simulation sim;
+
+	/**   */
+	private World world;
+
+	/**   */
+	private EnemyStore store;
+
+	/**   */
+	private FlowField flow;
+
+	/** Flock with the game's settings. */
+	private Flock flock;
+
+	/** Index of the swarmers, tagged with their slots. */
+	private SpatialHash index;
+
+	/**   */
+	private ParallelSteering steering;
+
+	/**
+	 * Touching swarmer pairs and ticks, summed over each iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters {
+
+		/** Touching swarmer pairs after each step. */
+		public long touching;
+
+		/** Ticks run. */
+		public long ticks;
+
+		/**
+		 * Clears the counts for the next iteration.
+		 */
+		@Setup(Level.Iteration)
+		public void clear() {
+			touching = 0;
+			ticks = 0;
+		}
+
+		/**
+		 * Counts the swarmers touching after a tick.
+		 * @param b benchmark whose world is counted
+		 */
+		@TearDown(Level.Invocation)
+		public void count(final SwarmContactBenchmark b) {
+			for (Contact c : b.world.getContactList()) {
+				if (c.isTouching()
+						&& c.getFixtureA().getBody().getUserData() == EntityType.SWARMER
+						&& c.getFixtureB().getBody().getUserData() == EntityType.SWARMER) {
+					touching++;
+				}
+			}
+			ticks++;
+		}
+	}
+
+	/**
+	 * Spawns the swarm and lets it reach the player.
+	 */
+	@Setup
+	public void setUp() {
+		Box2D.init();
+		sim = new Simulation(WIDTH, HEIGHT, new BotControls(350));
+		world = sim.getWorld();
+		// no listener, its contacts would only be resolved by a full tick
+		world.setContactListener(null);
+		store = sim.getEnemyManager().getStore();
+		Random rand = new Random(350);
+		for (int i = 0; i < swarmers; i++) {
+			new Enemy(sim, EntityType.SWARMER, 1 + rand.nextFloat() * 59,
+					1 + rand.nextFloat() * 59);
+		}
+		flow = new FlowField(WIDTH, HEIGHT, 4f, 64);
+		flock = new Flock(3f, 2.5f, 1.5f, 0.1f, 0.05f, 8);
+		index = new SpatialHash(WIDTH, HEIGHT, 4f);
+		steering = new ParallelSteering(null, 1, 0);
+		for (int t = 0; t < SETTLE_TICKS; t++) {
+			tick();
+		}
+	}
+
+	/**
+	 * Releases the world.
+	 */
+	@TearDown
+	public void tearDown() {
+		sim.dispose();
+	}
+
+	/**
+	 * Steers, flocks and steps the swarm once.
+	 */
+	private void tick() {
+		float px = WIDTH / 2;
+		float py = HEIGHT / 2;
+		store.sync(STEP);
+		flow.update(px, py);
+		steering.steer(store, flow, px, py);
+		if (flocking) {
+			index.clear();
+			for (int i = 0; i < store.size(); i++) {
+				index.insert(store.getX()[i], store.getY()[i], store.getEnemy(i), i);
+			}
+			flock.apply(store, index);
+		}
+		Body[] bodies = store.getBodies();
+		float[] vx = store.getVelocityX();
+		float[] vy = store.getVelocityY();
+		for (int i = 0; i < store.size(); i++) {
+			bodies[i].setLinearVelocity(vx[i], vy[i]);
+		}
+		world.step(STEP, 6, 2);
+	}
+
+	/**
+	 * Runs a tick.
+	 * @param counters counts of the iteration, kept after the tick
+	 */
+	@Benchmark
+	public void swarmTick(final Counters counters) {
+		tick();
+	}
+}
@@ -10,7 +10,7 @@ import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.mygdx.game.PlayerProjectile;
+import com.mygdx.game.Projectile;
 
 /**
  * Player class instantiates once per play session. 
@@ -74,7 +74,7 @@ public class MPlayer {
 	private Fixture fixture;
 	
 	/** All projectiles fired from Player. */
-	private ArrayList<PlayerProjectile> projectiles;
+	private ArrayList<Projectile> projectiles;
 	
 	/**
 	 * 
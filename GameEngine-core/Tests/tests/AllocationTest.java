@@ -0,0 +1,60 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import com.mygdx.game.EntityType;
+import com.mygdx.game.Simulation;
+import com.mygdx.game.Telemetry;
+
+public class AllocationTest extends SimulationFixture {
+
+	static final int WARMUP_TICKS = 20000;
+	static final int TICKS = 20000;
+	// a spawn builds its enemy handle and body wrappers, measured at
+	// 120 bytes for every type
+	static final int SPAWN_BYTES = 160;
+
+	int spawned;
+
+	@Override
+	Telemetry telemetry() {
+		return new Telemetry() {
+			@Override
+			public void spawned(final EntityType type, final int requested, final int count) {
+				spawned += count;
+			}
+		};
+	}
+
+	// real ticks with the bot playing, restarting whenever it dies;
+	// returns the bytes allocated by the ticks alone
+	long play(final int ticks) {
+		com.sun.management.ThreadMXBean bean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long id = Thread.currentThread().getId();
+		long allocated = 0;
+		for (int i = 0; i < ticks; i++) {
+			long before = bean.getThreadAllocatedBytes(id);
+			sim.tick(Simulation.getDeltaTime());
+			allocated += bean.getThreadAllocatedBytes(id) - before;
+			if (sim.isOver()) {
+				sim.reset();
+			}
+		}
+		return allocated;
+	}
+
+	@Test
+	public void tickAllocatesOnlyForSpawns() {
+		play(WARMUP_TICKS);
+		spawned = 0;
+		long allocated = play(TICKS);
+		assertTrue(spawned > 0);
+		assertTrue("allocated " + allocated + " bytes for " + spawned + " spawns",
+				allocated <= (long) spawned * SPAWN_BYTES);
+	}
+}
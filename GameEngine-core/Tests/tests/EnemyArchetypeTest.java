@@ -0,0 +1,55 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.mygdx.game.Enemy;
+import com.mygdx.game.EnemyArchetype;
+import com.mygdx.game.EnemyStore;
+import com.mygdx.game.EntityType;
+
+public class EnemyArchetypeTest extends SimulationFixture {
+
+	@Test
+	public void bodiesAreBuiltWhereSpawned() {
+		Enemy a = new Enemy(sim, EntityType.SWARMER, 10, 20);
+		Enemy b = new Enemy(sim, EntityType.SWARMER, 30, 40);
+		assertEquals(10, a.getBody().getPosition().x, 0);
+		assertEquals(20, a.getBody().getPosition().y, 0);
+		assertEquals(30, b.getBody().getPosition().x, 0);
+		assertEquals(40, b.getBody().getPosition().y, 0);
+		assertSame(a, a.getFixture().getUserData());
+		assertEquals(EntityType.SWARMER, b.getBody().getUserData());
+		assertSame(b.getBody(), sim.getEnemyManager().getStore().getBodies()[b.getSlot()]);
+	}
+
+	@Test
+	public void statsComeFromTheArchetype() {
+		EnemyArchetype archetype = EnemyArchetype.of(EntityType.SPITTER);
+		Enemy spitter = new Enemy(sim, archetype, 10, 10);
+		EnemyStore store = sim.getEnemyManager().getStore();
+		assertEquals(archetype.getHealth(), spitter.getHealth(), 0);
+		assertEquals(archetype.getBodyDamage(), spitter.getBodyDamage(), 0);
+		assertEquals(archetype.getDensity(), spitter.getFixture().getDensity(), 0);
+		assertEquals(archetype.getRadius(), spitter.getFixture().getShape().getRadius(), 0);
+		assertEquals(archetype.getBulletDamage(), store.getBulletDamage()[spitter.getSlot()], 0);
+		assertEquals(archetype.getFireInterval(), store.getFireInterval()[spitter.getSlot()], 0);
+		assertEquals(1, store.getVolley()[spitter.getSlot()]);
+		assertNull(EnemyArchetype.of(EntityType.PLAYER));
+	}
+
+	@Test
+	public void componentsComeFromTheArchetype() {
+		Enemy swarmer = new Enemy(sim, EntityType.SWARMER, 10, 10);
+		Enemy spitter = new Enemy(sim, EntityType.SPITTER, 20, 20);
+		Enemy demon = new Enemy(sim, EntityType.DEMON, 30, 30);
+		assertTrue(swarmer.has(EnemyStore.FOLLOWS) && swarmer.has(EnemyStore.FLOCKS));
+		assertFalse(swarmer.has(EnemyStore.ARMED));
+		assertTrue(spitter.has(EnemyStore.ARMED));
+		assertFalse(spitter.has(EnemyStore.FOLLOWS) || spitter.has(EnemyStore.CHARGES));
+		assertTrue(demon.has(EnemyStore.ARMED) && demon.has(EnemyStore.CHARGES)
+				&& demon.has(EnemyStore.BOSS));
+		assertFalse(demon.has(EnemyStore.FLOCKS));
+	}
+}
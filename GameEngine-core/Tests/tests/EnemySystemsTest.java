@@ -0,0 +1,124 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.mygdx.game.ChargeSystem;
+import com.mygdx.game.Enemy;
+import com.mygdx.game.EnemyStore;
+import com.mygdx.game.EntityType;
+import com.mygdx.game.ProjectilePool;
+import com.mygdx.game.WeaponSystem;
+
+public class EnemySystemsTest extends SimulationFixture {
+
+	ProjectilePool pool() {
+		return sim.getEnemyManager().getProjectilePool();
+	}
+
+	EnemyStore store() {
+		return sim.getEnemyManager().getStore();
+	}
+
+	// a spitter fires one projectile every 3 seconds
+	@Test
+	public void spitterFiresEachInterval() {
+		WeaponSystem weapons = new WeaponSystem(pool());
+		new Enemy(sim, EntityType.SPITTER, 10, 10);
+		weapons.update(store(), 100, 100, 1);
+		weapons.update(store(), 100, 100, 1);
+		assertEquals(0, pool().getActive());
+		weapons.update(store(), 100, 100, 1);
+		assertEquals(1, pool().getActive());
+	}
+
+	@Test
+	public void demonFiresAVolleyOfThree() {
+		WeaponSystem weapons = new WeaponSystem(pool());
+		new Enemy(sim, EntityType.DEMON, 10, 10);
+		weapons.update(store(), 100, 100, 1);
+		assertEquals(3, pool().getActive());
+	}
+
+	// projectiles in flight expire after two seconds
+	@Test
+	public void projectilesExpire() {
+		WeaponSystem weapons = new WeaponSystem(pool());
+		new Enemy(sim, EntityType.DEMON, 10, 10);
+		weapons.update(store(), 100, 100, 1);
+		store().getFireInterval()[0] = 10;
+		weapons.update(store(), 100, 100, 1);
+		assertEquals(3, pool().getActive());
+		weapons.update(store(), 100, 100, 1);
+		assertEquals(0, pool().getActive());
+	}
+
+	@Test
+	public void disarmFreesOnlyTheEnemysProjectiles() {
+		WeaponSystem weapons = new WeaponSystem(pool());
+		Enemy a = new Enemy(sim, EntityType.SPITTER, 10, 10);
+		new Enemy(sim, EntityType.SPITTER, 20, 20);
+		store().getFireTime()[0] = 3;
+		store().getFireTime()[1] = 3;
+		weapons.update(store(), 100, 100, 0);
+		assertEquals(2, pool().getActive());
+		weapons.disarm(a);
+		assertEquals(1, pool().getActive());
+	}
+
+	@Test
+	public void enemiesWithoutAWeaponNeverFire() {
+		WeaponSystem weapons = new WeaponSystem(pool());
+		new Enemy(sim, EntityType.SWARMER, 10, 10);
+		for (int i = 0; i < 10; i++) {
+			weapons.update(store(), 100, 100, 1);
+		}
+		assertEquals(0, pool().getActive());
+	}
+
+	// below 60% health the demon fires faster, below 50% it chases
+	@Test
+	public void hurtDemonEnragesAndChases() {
+		ChargeSystem charges = new ChargeSystem();
+		Enemy demon = new Enemy(sim, EntityType.DEMON, 10, 10);
+		store().getPushTime()[0] = 2;
+		float base = demon.getHealth();
+		charges.update(store(), 100, 10, 0.1f);
+		assertEquals(1, store().getFireInterval()[0], 0);
+		assertEquals(0, demon.getBody().getLinearVelocity().x, 0);
+		demon.setHealth(base * 0.45f);
+		charges.update(store(), 100, 10, 0.1f);
+		assertEquals(0.5f, store().getFireInterval()[0], 0);
+		assertEquals(50, demon.getBody().getLinearVelocity().x, 0.001f);
+	}
+
+	// below 35% health the demon stops, winds up, charges and stops again
+	@Test
+	public void badlyHurtDemonCharges() {
+		ChargeSystem charges = new ChargeSystem();
+		WeaponSystem weapons = new WeaponSystem(pool());
+		Enemy demon = new Enemy(sim, EntityType.DEMON, 10, 10);
+		store().getPushTime()[0] = 2;
+		demon.setHealth(demon.getHealth() * 0.3f);
+		store().getChargeTime()[0] = 5;
+		charges.update(store(), 100, 10, 0.1f);
+		assertEquals(0, demon.getBody().getLinearVelocity().x, 0);
+		assertTrue(store().getChargeState()[0] != 0);
+		// no volleys while charging
+		weapons.update(store(), 100, 10, 1);
+		assertEquals(0, pool().getActive());
+		for (int i = 0; i < 5; i++) {
+			charges.update(store(), 100, 10, 0.1f);
+		}
+		assertEquals(280, store().getMaxVelocity()[0], 0.001f);
+		assertEquals(280, demon.getBody().getLinearVelocity().x, 0.001f);
+		for (int i = 0; i < 15; i++) {
+			charges.update(store(), 100, 10, 0.1f);
+		}
+		assertEquals(0, store().getChargeState()[0]);
+		assertEquals(0, store().getChargeTime()[0], 0);
+		assertEquals(50, store().getMaxVelocity()[0], 0);
+		assertEquals(0, demon.getBody().getLinearVelocity().x, 0);
+	}
+}
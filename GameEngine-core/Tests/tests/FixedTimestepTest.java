@@ -0,0 +1,89 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mygdx.game.FixedTimestep;
+
+public class FixedTimestepTest {
+
+	// a quarter second step, exact in floats
+	FixedTimestep t;
+
+	@Before
+	public void setUp() throws Exception {
+		t = new FixedTimestep(4, 3);
+	}
+
+	@Test
+	public void oneTickPerStep() {
+		assertEquals(1, t.advance(0.25f));
+		assertEquals(0, t.getAlpha(), 0);
+	}
+
+	@Test
+	public void carriesTheRemainder() {
+		assertEquals(0, t.advance(0.125f));
+		assertEquals(0.5f, t.getAlpha(), 1e-6f);
+		assertEquals(1, t.advance(0.125f));
+		assertEquals(0, t.getAlpha(), 1e-6f);
+	}
+
+	@Test
+	public void severalTicksPerFrame() {
+		assertEquals(2, t.advance(0.625f));
+		assertEquals(0.5f, t.getAlpha(), 1e-6f);
+	}
+
+	@Test
+	public void capsCatchUp() {
+		assertEquals(3, t.advance(2));
+		assertEquals(0, t.advance(0));
+	}
+
+	// time beyond the cap is dropped, the fraction of a tick is kept
+	@Test
+	public void accountsForDroppedTime() {
+		assertEquals(3, t.advance(2.125f));
+		assertEquals(1.25f, t.getDroppedTime(), 1e-6f);
+		assertEquals(0.5f, t.getAlpha(), 1e-6f);
+		assertEquals(3, t.advance(0.625f));
+		assertEquals(1.25f, t.getDroppedTime(), 1e-6f);
+		assertEquals(0, t.getAlpha(), 1e-6f);
+		assertEquals(3, t.advance(1.25f));
+		assertEquals(1.75f, t.getDroppedTime(), 1e-6f);
+	}
+
+	@Test
+	public void alphaStaysInRange() {
+		FixedTimestep real = new FixedTimestep(60, 5);
+		Random rand = new Random(350);
+		for (int i = 0; i < 100000; i++) {
+			real.advance(rand.nextFloat() / 10);
+			assertTrue(real.getAlpha() >= 0);
+			assertTrue(real.getAlpha() < 1);
+		}
+	}
+
+	@Test
+	public void resetDiscardsTime() {
+		t.advance(0.125f);
+		t.reset();
+		assertEquals(0, t.getAlpha(), 0);
+		assertEquals(0, t.advance(0.125f));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsZeroRate() {
+		new FixedTimestep(0, 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsZeroCap() {
+		new FixedTimestep(4, 0);
+	}
+}
@@ -0,0 +1,89 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mygdx.game.FlowField;
+
+public class FlowFieldTest {
+
+	FlowField f;
+
+	@Before
+	public void setUp() throws Exception {
+		f = new FlowField(20, 10, 1);
+	}
+
+	@Test
+	public void pointsTowardTarget() {
+		f.update(15.5f, 5.5f);
+		int cell = f.resolve(2.5f, 5.5f);
+		assertTrue(f.getDirectionX()[cell] > 0);
+		assertTrue(f.getDirectionY()[cell] == 0);
+	}
+
+	@Test
+	public void noDirectionAtTarget() {
+		f.update(15.5f, 5.5f);
+		int cell = f.resolve(15.5f, 5.5f);
+		assertTrue(f.atTarget(15.5f, 5.5f));
+		assertTrue(f.getDirectionX()[cell] == 0 && f.getDirectionY()[cell] == 0);
+	}
+
+	@Test
+	public void rebuildsOnlyOnCellChange() {
+		assertTrue(f.update(15.5f, 5.5f));
+		assertFalse(f.update(15.9f, 5.1f));
+		assertTrue(f.update(16.1f, 5.1f));
+		assertTrue(f.getBuilds() == 2);
+	}
+
+	// a wall at x = 10 open only at the top row
+	@Test
+	public void routesAroundWall() {
+		for (int y = 0; y < 9; y++) {
+			f.setBlocked(10.5f, y + 0.5f, true);
+		}
+		assertTrue(f.update(15.5f, 0.5f));
+		int cell = f.resolve(9.5f, 0.5f);
+		assertTrue(f.getDirectionX()[cell] == 0);
+		assertTrue(f.getDirectionY()[cell] > 0);
+	}
+
+	@Test
+	public void rebuildsWhenBlocked() {
+		f.update(15.5f, 5.5f);
+		f.setBlocked(3.5f, 3.5f, true);
+		assertTrue(f.update(15.5f, 5.5f));
+	}
+
+	@Test
+	public void unreachableHasNoDirection() {
+		for (int y = 0; y < 10; y++) {
+			f.setBlocked(10.5f, y + 0.5f, true);
+		}
+		f.update(15.5f, 5.5f);
+		int cell = f.resolve(2.5f, 5.5f);
+		assertTrue(f.getDirectionX()[cell] == 0 && f.getDirectionY()[cell] == 0);
+	}
+
+	@Test
+	public void noDirectionOutOfRange() {
+		f = new FlowField(20, 10, 1, 5);
+		f.update(15.5f, 5.5f);
+		assertTrue(f.getDirectionX()[f.resolve(10.5f, 5.5f)] > 0);
+		assertTrue(f.getDirectionX()[f.resolve(9.5f, 5.5f)] == 0);
+	}
+
+	@Test
+	public void restartClearsResolvedCells() {
+		f.update(15.5f, 5.5f);
+		int cell = f.resolve(2.5f, 5.5f);
+		f.update(0.5f, 5.5f);
+		assertTrue(f.getDirectionX()[cell] == 0);
+		f.resolve(2.5f, 5.5f);
+		assertTrue(f.getDirectionX()[cell] < 0);
+	}
+}
@@ -0,0 +1,71 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mygdx.game.FramePipeline;
+import com.mygdx.game.FrameProfiler;
+import com.mygdx.game.PipelineStage;
+import com.mygdx.game.Telemetry;
+
+public class FrameProfilerTest {
+
+	FrameProfiler profiler;
+	PipelineStage stage;
+	int runs;
+
+	@Before
+	public void setUp() throws Exception {
+		profiler = new FrameProfiler(100);
+		stage = new PipelineStage("ai") {
+			@Override
+			public void run(float delta) {
+				runs++;
+			}
+		};
+	}
+
+	@Test
+	public void percentilesByNearestRank() {
+		for (int i = 100; i >= 1; i--) {
+			profiler.record(stage, i);
+		}
+		FrameProfiler.Timings t = profiler.getStages().get(0);
+		assertTrue(t.percentile(0.5f) == 50);
+		assertTrue(t.percentile(0.95f) == 95);
+		assertTrue(t.percentile(0.99f) == 99);
+		assertTrue(t.getLast() == 1);
+	}
+
+	// only the most recent window of samples is kept
+	@Test
+	public void oldSamplesDropped() {
+		for (int i = 0; i < 100; i++) {
+			profiler.record(stage, 1000);
+		}
+		for (int i = 0; i < 100; i++) {
+			profiler.record(stage, 1);
+		}
+		FrameProfiler.Timings t = profiler.getStages().get(0);
+		assertTrue(t.size() == 100);
+		assertTrue(t.percentile(0.99f) == 1);
+	}
+
+	@Test
+	public void pipelineTimesOnlyWhenEnabled() {
+		FramePipeline pipeline = new FramePipeline(new Telemetry());
+		pipeline.addTickStage(stage);
+		pipeline.setProfiler(profiler);
+		pipeline.tick(1);
+		assertTrue(profiler.getStages().size == 0);
+		profiler.setEnabled(true);
+		pipeline.tick(1);
+		pipeline.tick(1);
+		assertTrue(runs == 3);
+		assertTrue(profiler.getStages().get(0).size() == 2);
+		profiler.setEnabled(false);
+		assertTrue(profiler.getStages().get(0).size() == 0);
+	}
+}
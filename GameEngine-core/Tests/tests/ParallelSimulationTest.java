@@ -0,0 +1,53 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.mygdx.game.Simulation;
+import com.mygdx.game.Telemetry;
+
+public class ParallelSimulationTest {
+
+	static final int GAMES = 4;
+
+	@Test
+	public void gamesRunConcurrently() throws Exception {
+		final Simulation[] sims = new Simulation[GAMES];
+		final Throwable[] errors = new Throwable[GAMES];
+		Thread[] threads = new Thread[GAMES];
+		for (int g = 0; g < GAMES; g++) {
+			final int game = g;
+			threads[g] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						Simulation sim = SimulationFixture.create(game, new Telemetry());
+						SimulationFixture.playSession(sim);
+						sims[game] = sim;
+					} catch (Throwable e) {
+						errors[game] = e;
+					}
+				}
+			});
+			threads[g].start();
+		}
+		for (int g = 0; g < GAMES; g++) {
+			threads[g].join();
+		}
+		for (int g = 0; g < GAMES; g++) {
+			assertNull("game " + g + " failed", errors[g]);
+			Simulation sim = sims[g];
+			assertTrue(sim.getTicks() > 0);
+			// bodies built in another game's world would throw this off
+			sim.getResources().sample(sim.getWorld());
+			assertEquals(SimulationFixture.liveBodies(sim), sim.getResources().getBodies());
+			for (int h = 0; h < g; h++) {
+				assertNotSame(sims[h].getWorld(), sim.getWorld());
+			}
+		}
+		for (int g = 0; g < GAMES; g++) {
+			sims[g].dispose();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mygdx.game.Enemy;
+import com.mygdx.game.EnemyStore;
+import com.mygdx.game.EntityType;
+import com.mygdx.game.FlowField;
+import com.mygdx.game.ParallelSteering;
+import com.mygdx.game.Simulation;
+import com.mygdx.game.Telemetry;
+
+public class ParallelSteeringTest {
+
+	static final int SWARMERS = 1000;
+	static final int THREADS = 4;
+
+	ExecutorService workers;
+	FlowField field;
+	Simulation a, b;
+
+	@Before
+	public void setUp() throws Exception {
+		workers = Executors.newFixedThreadPool(THREADS - 1);
+		field = new FlowField(SimulationFixture.WIDTH, SimulationFixture.HEIGHT, 4, 64);
+		a = SimulationFixture.create(1, new Telemetry());
+		b = SimulationFixture.create(1, new Telemetry());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		workers.shutdown();
+		a.dispose();
+		b.dispose();
+	}
+
+	// the same swarmers in every simulation, none of them pushed
+	static EnemyStore swarm(final Simulation sim) {
+		Random rand = new Random(350);
+		EnemyStore store = sim.getEnemyManager().getStore();
+		for (int i = 0; i < SWARMERS; i++) {
+			new Enemy(sim, EntityType.SWARMER, rand.nextFloat() * SimulationFixture.WIDTH,
+					rand.nextFloat() * SimulationFixture.HEIGHT);
+		}
+		for (int i = 0; i < store.size(); i++) {
+			store.getPushTime()[i] = 2f;
+		}
+		return store;
+	}
+
+	// steers both stores over many ticks, checking they always agree
+	void assertSame(final ParallelSteering steering) {
+		ParallelSteering serial = new ParallelSteering(null, 1, 0);
+		EnemyStore expected = swarm(a);
+		EnemyStore actual = swarm(b);
+		for (int t = 0; t < 100; t++) {
+			float x = t * 3 % SimulationFixture.WIDTH;
+			float y = t * 2 % SimulationFixture.HEIGHT;
+			field.update(x, y);
+			serial.steer(expected, field, x, y);
+			steering.steer(actual, field, x, y);
+			assertArrayEquals(expected.getVelocityX(), actual.getVelocityX(), 0);
+			assertArrayEquals(expected.getVelocityY(), actual.getVelocityY(), 0);
+		}
+		int moving = 0;
+		for (int i = 0; i < SWARMERS; i++) {
+			if (actual.getVelocityX()[i] != 0) {
+				moving++;
+			}
+		}
+		assertTrue(moving > 0);
+	}
+
+	@Test
+	public void matchesSerial() {
+		assertSame(new ParallelSteering(workers, THREADS, 0));
+	}
+
+	// every chunk is steered even if no worker ever runs
+	@Test
+	public void callerSteersUnclaimedChunks() {
+		assertSame(new ParallelSteering(new Executor() {
+			@Override
+			public void execute(final Runnable r) {
+			}
+		}, THREADS, 0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void needsExecutorForThreads() {
+		new ParallelSteering(null, THREADS, 0);
+	}
+}
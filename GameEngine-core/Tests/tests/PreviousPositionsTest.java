@@ -0,0 +1,86 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.World;
+import com.mygdx.game.PreviousPositions;
+
+public class PreviousPositionsTest {
+
+	World world;
+	BodyDef def;
+	PreviousPositions previous;
+	Vector2 out;
+
+	@Before
+	public void setUp() throws Exception {
+		Box2D.init();
+		world = new World(new Vector2(0, 0), true);
+		def = new BodyDef();
+		def.type = BodyType.DynamicBody;
+		previous = new PreviousPositions();
+		out = new Vector2();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		world.dispose();
+	}
+
+	Body body(final float x, final float y) {
+		def.position.set(x, y);
+		return world.createBody(def);
+	}
+
+	@Test
+	public void lerpsFromRecordedPosition() {
+		Body b = body(0, 0);
+		previous.record(world);
+		b.setTransform(4, 2, 0);
+		previous.interpolate(b, 0.5f, out);
+		assertEquals(2, out.x, 1e-6f);
+		assertEquals(1, out.y, 1e-6f);
+		previous.interpolate(b, 0, out);
+		assertEquals(0, out.x, 1e-6f);
+	}
+
+	@Test
+	public void newBodyIsWhereItIs() {
+		previous.record(world);
+		Body b = body(4, 2);
+		previous.interpolate(b, 0.5f, out);
+		assertEquals(4, out.x, 0);
+		assertEquals(2, out.y, 0);
+	}
+
+	// a parked projectile is teleported when fired
+	@Test
+	public void inactiveBodyIsWhereItIs() {
+		Body b = body(0, 0);
+		b.setActive(false);
+		previous.record(world);
+		b.setTransform(4, 2, 0);
+		b.setActive(true);
+		previous.interpolate(b, 0.5f, out);
+		assertEquals(4, out.x, 0);
+	}
+
+	@Test
+	public void clearForgets() {
+		Body b = body(0, 0);
+		previous.record(world);
+		b.setTransform(4, 2, 0);
+		previous.clear();
+		previous.interpolate(b, 0.5f, out);
+		assertEquals(4, out.x, 0);
+	}
+}
@@ -9,6 +9,11 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.EntityType;
+import com.mygdx.game.GameEngine;
+import com.mygdx.game.Projectile;
+import com.mygdx.game.Simulation;
+import com.mygdx.game.Telemetry;
 
 import mimics.MProjectile;
 
@@ -93,4 +98,34 @@ public class ProjectileTest {
 		assertTrue(null, expected.y == p.determineQuadrant().y);
 	}
 	
+	//Projectile keeps the slope formula n/(n+1), n = |dX/dY|, for non-level shots
+	@Test
+	public void calculateVelocityMatchesSlope() {
+		Simulation sim = SimulationFixture.create(1, new Telemetry());
+		Projectile proj = new Projectile(sim, EntityType.PLAYER_PROJECTILE,
+				GameEngine.PLAYER_PROJECTILE_SPEED);
+		float[][] targets = {{3, 1}, {-2, 7}, {0.5f, -4}, {-9, -3}, {0, 5}};
+		for (float[] t : targets) {
+			proj.fire(0, 0, t[0], t[1], 1);
+			Vector2 vel = proj.calculateVelocity();
+			float slope = Math.abs(t[0] / t[1]);
+			assertEquals(Math.signum(t[0]) * 150 * (slope / (slope + 1)), vel.x, 0.001f);
+			assertEquals(Math.signum(t[1]) * 150 * (1 / (slope + 1)), vel.y, 0.001f);
+		}
+		sim.dispose();
+	}
+	
+	//dY = 0, where the slope formula divides by zero
+	@Test
+	public void calculateVelocityLevel() {
+		Simulation sim = SimulationFixture.create(1, new Telemetry());
+		Projectile proj = new Projectile(sim, EntityType.PLAYER_PROJECTILE,
+				GameEngine.PLAYER_PROJECTILE_SPEED);
+		proj.fire(0, 0, -5, 0, 1);
+		Vector2 vel = proj.calculateVelocity();
+		assertEquals(-150, vel.x, 0);
+		assertEquals(0, vel.y, 0);
+		sim.dispose();
+	}
+	
 }
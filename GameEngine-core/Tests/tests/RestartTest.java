@@ -0,0 +1,48 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.mygdx.game.ResourceAccountant;
+
+public class RestartTest extends SimulationFixture {
+
+	// checks everything a reset must clear or keep
+	void assertReset(final int shapes) {
+		ResourceAccountant resources = sim.getResources();
+		resources.sample(sim.getWorld());
+		assertFalse(sim.isOver());
+		assertEquals(0, sim.getTicks());
+		assertEquals(0, sim.getEnemyManager().getStore().size());
+		assertEquals(100, sim.getPlayer().getHealth(), 0);
+		assertEquals(0, sim.getPlayer().getScore());
+		assertEquals(0, sim.getPlayer().getProjectilePool().getActive());
+		assertEquals(0, sim.getEnemyManager().getProjectilePool().getActive());
+		assertEquals(keptBodies(sim), resources.getBodies());
+		assertEquals(shapes, resources.getShapes());
+	}
+
+	@Test
+	public void resetClearsTheSession() {
+		playSession();
+		assertTrue(sim.getEnemyManager().getStore().size() > 0);
+		int shapes = sim.getResources().getShapes();
+		sim.reset();
+		assertReset(shapes);
+	}
+
+	// every reset leaves the same state, however the session went
+	@Test
+	public void resetIsRepeatable() {
+		playSession();
+		sim.reset();
+		int shapes = sim.getResources().getShapes();
+		for (int i = 0; i < 3; i++) {
+			playSession();
+			assertTrue(sim.getTicks() > 0);
+			sim.reset();
+			assertReset(shapes);
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Before;
+
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.mygdx.game.BotControls;
+import com.mygdx.game.ProjectilePool;
+import com.mygdx.game.Simulation;
+import com.mygdx.game.Telemetry;
+
+// a bot-played simulation built before each test and disposed after it
+public abstract class SimulationFixture {
+
+	static final int WIDTH = 320;
+	static final int HEIGHT = 180;
+	static final int SESSION_TICKS = 60 * 60;
+
+	Simulation sim;
+
+	@Before
+	public void setUp() throws Exception {
+		sim = create(1, telemetry());
+	}
+
+	// tests that dispose the simulation themselves set it to null
+	@After
+	public void tearDown() throws Exception {
+		if (sim != null) {
+			sim.dispose();
+		}
+	}
+
+	// told of the simulation's events, overridden to count them
+	Telemetry telemetry() {
+		return new Telemetry();
+	}
+
+	static Simulation create(final int seed, final Telemetry telemetry) {
+		Box2D.init();
+		return new Simulation(WIDTH, HEIGHT, new BotControls(seed), telemetry);
+	}
+
+	// plays until the bot dies or a minute has passed
+	static void playSession(final Simulation sim) {
+		for (int t = 0; t < SESSION_TICKS && !sim.isOver(); t++) {
+			sim.tick(Simulation.getDeltaTime());
+		}
+	}
+
+	void playSession() {
+		playSession(sim);
+	}
+
+	// parked projectiles, kept across restarts and only growing with the pools
+	static int pooledBodies(final Simulation sim) {
+		return sim.getPlayer().getProjectilePool().getFree()
+				+ sim.getEnemyManager().getProjectilePool().getFree();
+	}
+
+	// bodies that survive a reset: walls, player and every pooled projectile
+	static int keptBodies(final Simulation sim) {
+		return sim.getWallCount() + sim.getPlayerCount() + pooledBodies(sim);
+	}
+
+	// kept bodies plus every projectile in flight and every live enemy
+	static int liveBodies(final Simulation sim) {
+		ProjectilePool shots = sim.getPlayer().getProjectilePool();
+		ProjectilePool spit = sim.getEnemyManager().getProjectilePool();
+		return keptBodies(sim) + shots.getActive() + spit.getActive()
+				+ sim.getEnemyManager().getStore().size();
+	}
+}
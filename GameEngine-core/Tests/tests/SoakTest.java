@@ -0,0 +1,56 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.mygdx.game.EntityType;
+import com.mygdx.game.ResourceAccountant;
+
+public class SoakTest extends SimulationFixture {
+
+	static final int CYCLES = ResourceAccountant.DEFAULT_HISTORY;
+
+	// plays a session, then restarts
+	void cycle() {
+		playSession();
+		assertTrue(sim.getTicks() > 0);
+		sim.reset();
+		sim.getResources().sample(sim.getWorld());
+	}
+
+	@Test
+	public void resourcesStayFlatAcrossRestarts() {
+		ResourceAccountant resources = sim.getResources();
+		// the first session creates the shape of every type it meets
+		cycle();
+		int bodies = resources.getBodies() - pooledBodies(sim);
+		int fixtures = resources.getFixtures() - pooledBodies(sim);
+		int shapes = resources.getShapes();
+		for (int c = 0; c < CYCLES; c++) {
+			cycle();
+			assertEquals(bodies, resources.getBodies() - pooledBodies(sim));
+			assertEquals(fixtures, resources.getFixtures() - pooledBodies(sim));
+			assertEquals(shapes, resources.getShapes());
+		}
+		assertFalse(resources.isGrowing());
+		assertEquals(sim.getWallCount() + sim.getPlayerCount(), bodies);
+		assertTrue(resources.getShapes() <= EntityType.values().length + 2);
+		sim.dispose();
+		sim = null;
+		assertEquals(0, resources.getShapes());
+	}
+
+	@Test
+	public void detectsGrowth() {
+		ResourceAccountant leaky = new ResourceAccountant(5);
+		for (int i = 0; i < 5; i++) {
+			leaky.shapeCreated();
+			leaky.sample(sim.getWorld());
+		}
+		assertTrue(leaky.isGrowing());
+		leaky.shapeDisposed();
+		leaky.sample(sim.getWorld());
+		assertFalse(leaky.isGrowing());
+	}
+}
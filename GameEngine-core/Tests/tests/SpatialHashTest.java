@@ -0,0 +1,98 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.SpatialHash;
+
+public class SpatialHashTest {
+
+	SpatialHash h;
+
+	@Before
+	public void setUp() throws Exception {
+		h = new SpatialHash(100, 50, 4);
+	}
+
+	@Test
+	public void overlapsEmpty() {
+		assertFalse(h.overlaps(10, 10, 1));
+	}
+
+	@Test
+	public void overlapsInside() {
+		h.insert(10.5f, 10.5f, "a");
+		assertTrue(h.overlaps(10, 10, 1));
+	}
+
+	@Test
+	public void overlapsOutside() {
+		h.insert(11, 10, "a");
+		assertFalse(h.overlaps(10, 10, 1));
+	}
+
+	// entries on either side of a cell border
+	@Test
+	public void overlapsAcrossCells() {
+		h.insert(7.9f, 8.1f, "a");
+		assertTrue(h.overlaps(8.5f, 7.5f, 1));
+	}
+
+	@Test
+	public void clampsOutOfBounds() {
+		h.insert(-5, 60, "a");
+		assertTrue(h.overlaps(-5, 60, 1));
+	}
+
+	@Test
+	public void clear() {
+		h.insert(10, 10, "a");
+		h.clear();
+		assertTrue(h.size() == 0);
+		assertFalse(h.overlaps(10, 10, 1));
+	}
+
+	@Test
+	public void query() {
+		Array<Object> out = new Array<Object>();
+		h.insert(10, 10, "a");
+		h.insert(13, 10, "b");
+		h.insert(30, 30, "c");
+		h.query(10, 10, 3, out);
+		assertTrue(out.size == 2);
+		assertTrue(out.contains("a", false) && out.contains("b", false));
+	}
+
+	// untagged entries are skipped
+	@Test
+	public void queryTags() {
+		int[] out = new int[4];
+		h.insert(10, 10, "a", 0);
+		h.insert(13, 10, "b", 1);
+		h.insert(11, 11, "player");
+		h.insert(30, 30, "c", 2);
+		int found = h.query(10, 10, 3, out);
+		assertEquals(2, found);
+		assertTrue(out[0] + out[1] == 1);
+	}
+
+	@Test
+	public void queryTagsStopsWhenFull() {
+		int[] out = new int[3];
+		for (int i = 0; i < 10; i++) {
+			h.insert(10, 10, "a", i);
+		}
+		assertEquals(3, h.query(10, 10, 1, out));
+	}
+
+	@Test
+	public void grows() {
+		for (int i = 0; i < 200; i++) {
+			h.insert(i % 100, i % 50, i);
+		}
+		assertTrue(h.size() == 200);
+	}
+}
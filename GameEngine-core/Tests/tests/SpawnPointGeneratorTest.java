@@ -0,0 +1,79 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.game.SpawnPointGenerator;
+
+public class SpawnPointGeneratorTest {
+
+	static final float WIDTH = 1280;
+	static final float HEIGHT = 720;
+	static final float MIN_DISTANCE = 50;
+	static final float MARGIN = 1;
+	static final int SAMPLES = 20000;
+
+	SpawnPointGenerator gen;
+	Vector2 out;
+
+	@Before
+	public void setUp() throws Exception {
+		gen = new SpawnPointGenerator(WIDTH, HEIGHT, 16, new Random(350));
+		out = new Vector2();
+	}
+
+	// true if the point lies within a meter of the area spawns may use
+	boolean onBorder(final Vector2 p) {
+		return p.x < MARGIN + 1 || p.x > WIDTH - MARGIN - 1
+				|| p.y < MARGIN + 1 || p.y > HEIGHT - MARGIN - 1;
+	}
+
+	@Test
+	public void pointsAreInsideAndAwayFromThePlayer() {
+		for (int i = 0; i < SAMPLES; i++) {
+			if (gen.next(100, 100, MIN_DISTANCE, MARGIN, out)) {
+				assertTrue(out.x >= MARGIN && out.x <= WIDTH - MARGIN);
+				assertTrue(out.y >= MARGIN && out.y <= HEIGHT - MARGIN);
+				assertTrue(out.dst(100, 100) >= MIN_DISTANCE - 0.01f);
+			}
+		}
+	}
+
+	@Test
+	public void fewPointsLandOnTheBorder() {
+		int border = 0;
+		int left = 0;
+		for (int i = 0; i < SAMPLES; i++) {
+			if (!gen.next(WIDTH / 2, HEIGHT / 2, MIN_DISTANCE, MARGIN, out)) {
+				continue;
+			}
+			if (onBorder(out)) {
+				border++;
+			}
+			if (out.x < WIDTH / 2) {
+				left++;
+			}
+		}
+		// the one meter strip is under half a percent of the area
+		assertTrue("border share " + border / (float) SAMPLES, border < SAMPLES / 100);
+		assertTrue(Math.abs(left - SAMPLES / 2) < SAMPLES / 50);
+		assertTrue(gen.getFailures() < SAMPLES / 200);
+	}
+
+	@Test
+	public void cornerPlayerStillSpawns() {
+		int found = 0;
+		for (int i = 0; i < SAMPLES; i++) {
+			if (gen.next(2, 2, MIN_DISTANCE, MARGIN, out)) {
+				found++;
+			}
+		}
+		assertTrue(found > SAMPLES * 8 / 10);
+		assertTrue(gen.getFailures() == SAMPLES - found);
+	}
+}
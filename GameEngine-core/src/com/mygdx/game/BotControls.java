@@ -0,0 +1,145 @@
+package com.mygdx.game;
+
+import java.util.Random;
+
+/**
+ * BotControls class plays the game without a person: it wanders the
+ * arena in a new random direction every so often, steers away from the
+ * walls, aims at the nearest enemy and fires whenever it can. The
+ * shotgun is used when an enemy comes close. Given the same seed it
+ * makes the same choices, so headless runs can be repeated.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class BotControls implements Controls {
+
+	/** Ticks spent moving in one direction. */
+	private static final int WANDER_TICKS = 60;
+
+	/** Distance from a wall in meters at which the bot turns back. */
+	private static final float WALL_MARGIN = 10f;
+
+	/** Distance in meters within which the shotgun is used. */
+	private static final float SHOTGUN_RANGE = 8f;
+
+	/**   */
+	private final Random rand;
+
+	/** Ticks left before a new direction is chosen. */
+	private int wanderTicks;
+
+	/** Chosen horizontal direction, -1, 0 or 1. */
+	private int dirX;
+
+	/** Chosen vertical direction, -1, 0 or 1. */
+	private int dirY;
+
+	/**   */
+	private boolean left, right, up, down, firing, shotgun;
+
+	/**   */
+	private float aimX, aimY;
+
+	/**
+	 *
+	 * @param seed seed of the bot's random choices
+	 */
+	public BotControls(final long seed) {
+		rand = new Random(seed);
+	}
+
+	/**
+	 * Chooses the movement and aim for the coming tick.
+	 * @param simulation simulation being controlled
+	 */
+	@Override
+	public void poll(final Simulation simulation) {
+		Player player = simulation.getPlayer();
+		float px = player.getX();
+		float py = player.getY();
+		if (wanderTicks-- <= 0) {
+			dirX = rand.nextInt(3) - 1;
+			dirY = rand.nextInt(3) - 1;
+			wanderTicks = WANDER_TICKS;
+		}
+		if (px < WALL_MARGIN) {
+			dirX = 1;
+		} else if (px > simulation.getArenaWidth() - WALL_MARGIN) {
+			dirX = -1;
+		}
+		if (py < WALL_MARGIN) {
+			dirY = 1;
+		} else if (py > simulation.getArenaHeight() - WALL_MARGIN) {
+			dirY = -1;
+		}
+		left = dirX < 0;
+		right = dirX > 0;
+		down = dirY < 0;
+		up = dirY > 0;
+		aim(simulation.getEnemyManager().getStore(), px, py);
+	}
+
+	/**
+	 * Aims at the nearest live enemy, firing only if there is one.
+	 * @param store enemy state
+	 * @param px player x position
+	 * @param py player y position
+	 */
+	private void aim(final EnemyStore store, final float px, final float py) {
+		float[] x = store.getX();
+		float[] y = store.getY();
+		float best = Float.MAX_VALUE;
+		for (int i = 0; i < store.size(); i++) {
+			float dx = x[i] - px;
+			float dy = y[i] - py;
+			float d2 = dx * dx + dy * dy;
+			if (d2 < best) {
+				best = d2;
+				aimX = x[i];
+				aimY = y[i];
+			}
+		}
+		firing = store.size() > 0;
+		shotgun = best < SHOTGUN_RANGE * SHOTGUN_RANGE;
+	}
+
+	@Override
+	public boolean isLeft() {
+		return left;
+	}
+
+	@Override
+	public boolean isRight() {
+		return right;
+	}
+
+	@Override
+	public boolean isUp() {
+		return up;
+	}
+
+	@Override
+	public boolean isDown() {
+		return down;
+	}
+
+	@Override
+	public boolean isFiring() {
+		return firing;
+	}
+
+	@Override
+	public boolean isShotgun() {
+		return shotgun;
+	}
+
+	@Override
+	public float getAimX() {
+		return aimX;
+	}
+
+	@Override
+	public float getAimY() {
+		return aimY;
+	}
+}
@@ -0,0 +1,128 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * ChargeSystem drives every enemy in the store that charges, which is
+ * how the demon fights. As its health falls below fractions of its
+ * base health it fires faster, then chases the player, then every few
+ * seconds stops, winds up and charges at the player. The charge speeds
+ * scale with the difficulty multiplier the enemy spawned with.
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class ChargeSystem {
+
+	/** Fraction of base health below which the enemy fires faster. */
+	private static final float ENRAGED_HEALTH = 0.6f;
+
+	/** Time between volleys once enraged. */
+	private static final float ENRAGED_INTERVAL = 0.5f;
+
+	/** Fraction of base health below which the enemy chases the player. */
+	private static final float CHASE_HEALTH = 0.5f;
+
+	/** Fraction of base health below which the enemy charges. */
+	private static final float CHARGE_HEALTH = 0.35f;
+
+	/** Time between the end of a charge and the next. */
+	private static final float CHARGE_INTERVAL = 5.0f;
+
+	/** Time stopped before charging, shortened by the multiplier. */
+	private static final float WINDUP = 0.6f;
+
+	/** Windup taken off per unit of multiplier. */
+	private static final float WINDUP_PER_MULTIPLIER = 0.1f;
+
+	/** Time from stopping to the end of the charge. */
+	private static final float CHARGE_END = WINDUP + 1.5f;
+
+	/** Speed of a charge per unit of multiplier. */
+	private static final float CHARGE_SPEED = 200f * 1.4f;
+
+	/** Speed after a charge per unit of multiplier. */
+	private static final float CRUISE_SPEED = 50f;
+
+	/** Multiplier from which a charge keeps turning towards the player. */
+	private static final float HOMING_MULTIPLIER = 1.4f;
+
+	/**
+	 * Advances every charging enemy.
+	 * @param store enemy store
+	 * @param targetX player's x coordinate
+	 * @param targetY player's y coordinate
+	 * @param delta simulated seconds
+	 */
+	public void update(final EnemyStore store, final float targetX,
+			final float targetY, final float delta) {
+		int[] components = store.getComponents();
+		float[] health = store.getHealth();
+		float[] baseHealth = store.getBaseHealth();
+		float[] chargeTime = store.getChargeTime();
+		byte[] chargeState = store.getChargeState();
+		for (int i = 0; i < store.size(); i++) {
+			if ((components[i] & EnemyStore.CHARGES) == 0) {
+				continue;
+			}
+			chargeTime[i] += delta;
+			float base = baseHealth[i];
+			if (health[i] <= base * ENRAGED_HEALTH) {
+				store.getFireInterval()[i] = ENRAGED_INTERVAL;
+			}
+			if (health[i] <= base * CHASE_HEALTH && chargeState[i] == EnemyStore.IDLE) {
+				chase(store, i, targetX, targetY);
+			}
+			if (health[i] <= base * CHARGE_HEALTH && chargeTime[i] >= CHARGE_INTERVAL) {
+				charge(store, i, targetX, targetY, delta);
+			}
+		}
+	}
+
+	/**
+	 * Stops the enemy, then after the windup sends it at the player,
+	 * and stops it again once the charge is over.
+	 * @param store enemy store
+	 * @param i slot
+	 * @param targetX player's x coordinate
+	 * @param targetY player's y coordinate
+	 * @param delta simulated seconds
+	 */
+	private void charge(final EnemyStore store, final int i,
+			final float targetX, final float targetY, final float delta) {
+		byte[] chargeState = store.getChargeState();
+		float[] windup = store.getWindup();
+		float mult = store.getMultiplier()[i];
+		Body body = store.getBodies()[i];
+		if (chargeState[i] != EnemyStore.CHARGING) { // halt motion before charge
+			body.setLinearVelocity(0, 0);
+			chargeState[i] = EnemyStore.WINDING_UP;
+		}
+		windup[i] += delta;
+		if (windup[i] >= WINDUP - mult * WINDUP_PER_MULTIPLIER) {
+			store.getMaxVelocity()[i] = CHARGE_SPEED * mult;
+			if (mult >= HOMING_MULTIPLIER || chargeState[i] != EnemyStore.CHARGING) {
+				chase(store, i, targetX, targetY);
+				chargeState[i] = EnemyStore.CHARGING;
+			}
+		}
+		if (windup[i] >= CHARGE_END) {
+			body.setLinearVelocity(0, 0);
+			store.getMaxVelocity()[i] = CRUISE_SPEED * mult;
+			windup[i] = 0;
+			store.getChargeTime()[i] = 0;
+			chargeState[i] = EnemyStore.IDLE;
+		}
+	}
+
+	/**
+	 * Aims the enemy straight at the player at its full speed.
+	 * @param store enemy store
+	 * @param i slot
+	 * @param targetX player's x coordinate
+	 * @param targetY player's y coordinate
+	 */
+	private void chase(final EnemyStore store, final int i,
+			final float targetX, final float targetY) {
+		store.steer(i, targetX, targetY);
+		store.getBodies()[i].setLinearVelocity(store.getVelocityX()[i], store.getVelocityY()[i]);
+	}
+}
@@ -0,0 +1,107 @@
+package com.mygdx.game; 
+
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+
+/**
+ * CollisionFilter class holds the collision matrix for every entity
+ * type. Each type is given its own Box2D category bit and a mask of
+ * the categories it may touch. Pairs left out of the matrix are
+ * rejected by Box2D's broadphase, so they never reach the narrowphase,
+ * the solver or Listener.
+ * 
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public final class CollisionFilter {
+	
+	/** True if enemies physically push each other apart. */
+	public static final boolean ENEMIES_COLLIDE = true;
+	
+	/** Mask of categories each type collides with, by ordinal. */
+	private static final short[] MASKS = new short[EntityType.values().length];
+	
+	static {
+		EntityType[] enemies = {EntityType.SWARMER, EntityType.SPITTER, EntityType.DEMON};
+		collide(EntityType.PLAYER, EntityType.WALL);
+		collide(EntityType.PLAYER, EntityType.ENEMY_PROJECTILE);
+		collide(EntityType.PLAYER_PROJECTILE, EntityType.WALL);
+		collide(EntityType.ENEMY_PROJECTILE, EntityType.WALL);
+		for (EntityType enemy : enemies) {
+			collide(enemy, EntityType.WALL);
+			collide(enemy, EntityType.PLAYER);
+			collide(enemy, EntityType.PLAYER_PROJECTILE);
+			if (ENEMIES_COLLIDE) {
+				for (EntityType other : enemies) {
+					collide(enemy, other);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Static utility.
+	 */
+	private CollisionFilter() {
+	}
+	
+	/**
+	 * Allows two types to collide with each other.
+	 * @param a first type
+	 * @param b second type
+	 */
+	private static void collide(final EntityType a, final EntityType b) {
+		MASKS[a.ordinal()] |= category(b);
+		MASKS[b.ordinal()] |= category(a);
+	}
+	
+	/**
+	 * Returns the category bit of a type.
+	 * @param type entity type
+	 * @return category bit
+	 */
+	public static short category(final EntityType type) {
+		return (short) (1 << type.ordinal());
+	}
+	
+	/**
+	 * Returns the categories a type collides with.
+	 * @param type entity type
+	 * @return mask bits
+	 */
+	public static short mask(final EntityType type) {
+		return MASKS[type.ordinal()];
+	}
+	
+	/**
+	 * Returns true if two types collide.
+	 * @param a first type
+	 * @param b second type
+	 * @return true if the pair collides
+	 */
+	public static boolean collides(final EntityType a, final EntityType b) {
+		return (mask(a) & category(b)) != 0;
+	}
+	
+	/**
+	 * Sets a fixture definition's filter for a type.
+	 * @param def fixture definition
+	 * @param type entity type
+	 */
+	public static void apply(final FixtureDef def, final EntityType type) {
+		def.filter.categoryBits = category(type);
+		def.filter.maskBits = mask(type);
+	}
+	
+	/**
+	 * Sets an existing fixture's filter for a type.
+	 * @param fixture fixture
+	 * @param type entity type
+	 */
+	public static void apply(final Fixture fixture, final EntityType type) {
+		Filter filter = fixture.getFilterData();
+		filter.categoryBits = category(type);
+		filter.maskBits = mask(type);
+		fixture.setFilterData(filter);
+	}
+}
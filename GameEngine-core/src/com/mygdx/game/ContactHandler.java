@@ -0,0 +1,16 @@
+package com.mygdx.game; 
+
+/**
+ * Game effect of two kinds of entity touching. Handlers are stored in
+ * Listener's dispatch table, indexed by the EntityType of each side.
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public interface ContactHandler {
+
+	/**
+	 * Applies the effect of a contact.
+	 * @param a user data of the first fixture
+	 * @param b user data of the second fixture
+	 */
+	void handle(Object a, Object b);
+}
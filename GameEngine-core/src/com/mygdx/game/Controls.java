@@ -0,0 +1,65 @@
+package com.mygdx.game;
+
+/**
+ * Controls interface is the source of the player's input each tick,
+ * so that the simulation can be driven by the keyboard and mouse, a
+ * script or a bot alike.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public interface Controls {
+
+	/**
+	 * Reads the input for the coming tick.
+	 * @param simulation simulation being controlled
+	 */
+	void poll(Simulation simulation);
+
+	/**
+	 * Returns true if the player should move left.
+	 * @return left
+	 */
+	boolean isLeft();
+
+	/**
+	 * Returns true if the player should move right.
+	 * @return right
+	 */
+	boolean isRight();
+
+	/**
+	 * Returns true if the player should move up.
+	 * @return up
+	 */
+	boolean isUp();
+
+	/**
+	 * Returns true if the player should move down.
+	 * @return down
+	 */
+	boolean isDown();
+
+	/**
+	 * Returns true if the player should fire a projectile.
+	 * @return firing
+	 */
+	boolean isFiring();
+
+	/**
+	 * Returns true if the player should fire the shotgun.
+	 * @return shotgun
+	 */
+	boolean isShotgun();
+
+	/**
+	 * Returns the X world coordinate the player aims at.
+	 * @return aim x
+	 */
+	float getAimX();
+
+	/**
+	 * Returns the Y world coordinate the player aims at.
+	 * @return aim y
+	 */
+	float getAimY();
+}
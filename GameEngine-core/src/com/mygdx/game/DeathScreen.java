@@ -114,12 +114,21 @@ public class DeathScreen extends ScreenAdapter {
 	}
 	
 	
+	/**
+	 * Restarts or quits when a button is pressed. Both run on the next
+	 * frame, since disposing the stage from inside its own event
+	 * dispatch would leave it handling input after it is gone.
+	 */
 	private void addListeners() {
 		play.addListener(new ChangeListener() {
 			public void changed(final ChangeEvent event, final Actor play) {
-				gE.dispose();
-				gE = null;
-				sM.setScreen(new MainMenuScreen(sM));
+				Gdx.app.postRunnable(new Runnable() {
+					@Override
+					public void run() {
+						sM.setScreen(gE); // hides and disposes this screen
+						gE.restart();
+					}
+				});
 			}
 		});
 		
@@ -127,8 +136,15 @@ public class DeathScreen extends ScreenAdapter {
 			
 			
 			public void changed(final ChangeEvent event, final Actor quit) {
-				gE.dispose();
-				Gdx.app.exit();
+				Gdx.app.postRunnable(new Runnable() {
+					@Override
+					public void run() {
+						Gdx.input.setInputProcessor(null);
+						gE.dispose();
+						dispose();
+						Gdx.app.exit();
+					}
+				});
 			}
 		});
 	}
@@ -157,4 +173,24 @@ public class DeathScreen extends ScreenAdapter {
 				windowWidth / 2 - 34, windowHeight / 2 + 40);
 		batch.end();
 	}
+	
+	/**
+	 * Stops the stage receiving input and disposes the screen, which is
+	 * not shown again.
+	 */
+	@Override
+	public void hide() {
+		Gdx.input.setInputProcessor(null);
+		dispose();
+	}
+	
+	/**
+	 * 
+	 */
+	@Override
+	public void dispose() {
+		stage.dispose();
+		skin.dispose();
+		batch.dispose();
+	}
 }
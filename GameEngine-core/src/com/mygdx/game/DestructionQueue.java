@@ -0,0 +1,63 @@
+package com.mygdx.game; 
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * DestructionQueue class collects bodies that are no longer needed.
+ * Entities enqueue their own body when they die, and the queue is
+ * drained once per tick after the physics step, so bodies are never
+ * destroyed while the world is stepping or while bodies are being
+ * iterated over.
+ * 
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class DestructionQueue {
+	
+	/** Bodies waiting to be destroyed. */
+	private final Array<Body> queued;
+	
+	/**
+	 * 
+	 */
+	public DestructionQueue() {
+		queued = new Array<Body>(false, 16);
+	}
+	
+	/**
+	 * Marks a body for destruction at the end of the tick and tags it
+	 * DELETABLE, so that contacts and rendering ignore it until then.
+	 * A body that already carries the tag is queued and is ignored.
+	 * @param body body to destroy
+	 */
+	public void enqueue(final Body body) {
+		if (body.getUserData() == EntityType.DELETABLE) {
+			return;
+		}
+		body.setUserData(EntityType.DELETABLE);
+		queued.add(body);
+	}
+	
+	/**
+	 * Destroys every queued body.
+	 * @param world world owning the bodies
+	 */
+	public void drain(final World world) {
+		if (world.isLocked()) {
+			throw new IllegalStateException("Cannot destroy bodies during a world step");
+		}
+		for (int i = 0; i < queued.size; i++) {
+			world.destroyBody(queued.get(i));
+		}
+		queued.clear();
+	}
+	
+	/**
+	 * Returns the number of bodies waiting to be destroyed.
+	 * @return queued count
+	 */
+	public int size() {
+		return queued.size;
+	}
+}
@@ -1,145 +1,84 @@
 package com.mygdx.game; 
 
-import java.util.ArrayList;
-
-import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
-import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.FixtureDef;
 
 /**
- * Enemy class acts as the parent class for all Enemy children.
+ * Enemy class is the handle of one enemy. Its components live in the
+ * simulation's EnemyStore at the enemy's slot, filled in from the
+ * archetype of its type, and are updated by the systems EnemyManager
+ * runs each tick. The handle is what contacts and the spatial index
+ * refer to, and it follows the enemy when the store moves it to
+ * another slot.
  * 
  * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
  */
-public class Enemy {
-	
-	/**  Velocity limit.*/
-	private float maxVelocity;
+public final class Enemy {
 	
-	/** Circle shape. */
-	private Circle body;
+	/** Simulation the enemy is built in. */
+	private final Simulation sim;
 	
-	/** Characteristics of physical body.*/
-	private BodyDef bodyDef;
+	/** Store holding this enemy's components. */
+	private final EnemyStore store;
 	
-	/** Physical body. */
-	private Body solidBody;
+	/** Slot of this enemy in the store, -1 once removed. */
+	private int slot;
 	
-	/** Box2D circle shape. */
-	private CircleShape circle;
+	/** Kind of enemy. */
+	private final EntityType type;
 	
-	/** Characteristics of fixture. */
-	private FixtureDef fixtureDef;
+	/** Physical body. */
+	private final Body solidBody;
 	
 	/** Attaches a physical body to its qualities. */
-	private Fixture fixture;
-	
-	/** position. */
-	private Vector2 position;
-	/** velocity. */
-	private Vector2 velocity;
-	
-	/** All projectiles fired from Enemy. */
-	private ArrayList<EnemyProjectile> projectiles;
-	
-	/**  Player's X position.*/
-	private float playerX;
-    
-	/**  Player's Y position.*/
-	private float playerY;
-	
-	/** Enemy health. */
-	private float health;
-	
-	/** Damage inflicted on touch. */
-	private float bodyDamage;
-	
-	/** Time accumulator. */
-	private float accumulator;
+	private final Fixture fixture;
 	
-	/** Damage inflicted by projectiles. */
-	private int bulletDamage;
+	/** Impulse away from the player, reused by every push. */
+	private Vector2 impulse;
 	
 	/**
-	 * 
+	 * Builds the enemy's body and takes the next free slot in the
+	 * simulation's enemy store, filled in from the archetype.
+	 * @param sim simulation the enemy is built in
+	 * @param archetype what every enemy of the type starts with
 	 * @param spawnX X spawn coordinate
 	 * @param spawnY Y spawn coordinate
 	 */
-	public Enemy(final float spawnX, final float spawnY) {
-		position = new Vector2(spawnX, spawnY);
-		velocity = new Vector2();
-		accumulator = 1.0f;
-		projectiles = new ArrayList<EnemyProjectile>();
+	public Enemy(final Simulation sim, final EnemyArchetype archetype, 
+			final float spawnX, final float spawnY) {
+		this.sim = sim;
+		store = sim.getEnemyManager().getStore();
+		this.type = archetype.getType();
+		impulse = new Vector2();
+		solidBody = archetype.build(sim, spawnX, spawnY);
+		slot = store.add(this, archetype, solidBody, spawnX, spawnY);
+		fixture = solidBody.getFixtureList().get(0);
+		fixture.setUserData(this);
 	}
 	
 	/**
-	 * Constructs a physical body in the world.
+	 * Builds an enemy of a type with its archetype.
+	 * @param sim simulation the enemy is built in
+	 * @param type kind of enemy
 	 * @param spawnX X spawn coordinate
 	 * @param spawnY Y spawn coordinate
-	 * @param radius radius of body
-	 * @param density density of body
-	 * @param restitution bounciness of body
-	 */
-	public void buildBody(final float spawnX, final float spawnY, final float radius,
-			final float density, final float restitution) {
-		body = new Circle();
-		bodyDef = new BodyDef();
-		bodyDef.type = BodyType.DynamicBody;
-		bodyDef.position.set(spawnX, spawnY); // determine spawn operation
-		solidBody = GameEngine.getWorld().createBody(bodyDef);
-		circle = new CircleShape();
-		circle.setRadius(radius);
-		
-		fixtureDef = new FixtureDef();
-		fixtureDef.shape = circle;
-		fixtureDef.density = density;
-		fixtureDef.friction = 0.4f;
-		fixtureDef.restitution = restitution; // bounciness
-		fixture = solidBody.createFixture(fixtureDef);
-	}
-	
-	/**
-	 * Updates all necessary generic enemy values.
-	 * @param x player's x coordinate
-	 * @param y player's y coordinate
-	 */
-	public void update(final float x, final float y) {
-		setPlayerX(x);
-		setPlayerY(y);
-		updatePos();
-		updateVel();
-		accumulator += GameEngine.getDeltaTime();
-	}
-
-	/**
-	 * Sets position.
-	 */
-	public void updatePos() {
-		position.set(getBody().getPosition());
-	}
-	
-	/**
-	 * Sets current velocity.
 	 */
-	public void updateVel() {
-		velocity.set(getBody().getLinearVelocity());
+	public Enemy(final Simulation sim, final EntityType type,
+			final float spawnX, final float spawnY) {
+		this(sim, EnemyArchetype.of(type), spawnX, spawnY);
 	}
 	
 	/**
 	 * Used when in contact with player, this sends an enemy
 	 * flying in the opposite direction it approached the player.
-	 * @return vec
+	 * @return vec, reused by the next call
 	 */
 	public Vector2 pushAway() {
-		Vector2 vec =  new Vector2();
-		float x = velocity.x;
-		float y = velocity.y;
-		accumulator = 0;
+		Vector2 vec = impulse.setZero();
+		float x = store.getVelocityX()[slot];
+		float y = store.getVelocityY()[slot];
+		store.getPushTime()[slot] = 0;
 		float xBurst = 90f;
 		float yBurst = 90f;
 		if (x > 0) {
@@ -159,60 +98,10 @@ public class Enemy {
 	/**
 	 * Applies impulse to body. Used in conjunction with pushAway().
 	 * @param v velocity
-	 */
+	 */
 	public void applyImpulse(final Vector2 v) {
 		solidBody.applyLinearImpulse(v.x, v.y, 0, 0, true);
 	}
-
-	/**
-	 * Calculates and returns x and y velocity, aiming towards the player.
-	 * @return velocity
-	 */
-	public Vector2 calculateVelocity() {
-		if (accumulator > 1.0f) {
-			float dX, dY, slope;
-			dX = playerX - position.x;
-			dY = playerY - position.y;
-			slope = Math.abs(dX / dY);
-			if (dX > 0) {
-				velocity.x = maxVelocity * (slope / (slope + 1));
-			} else if (dX < 0) {
-				velocity.x = -maxVelocity * (slope / (slope + 1));
-			}
-			if (dY >= 0) {
-				velocity.y = maxVelocity * (1 / (slope + 1));
-			} else if (dY < 0) {
-				velocity.y = -maxVelocity * (1 / (slope + 1));
-			}
-		}
-		return velocity;
-	}
-	
-	/**
-	 * Collects each projectile fired from the Demon that can be deleted.
-	 * @param time time between frames.
-	 */
-	public void manageProjectiles(final float time) {
-		if (!getProjectiles().isEmpty()) {
-			for (int i = 0; i < getProjectiles().size(); i++) {
-				if (getProjectiles().get(i).deletable(time)) { 
-					getProjectiles().remove(i);
-				}
-			}
-		}
-	}
-	
-	/**
-	 * Creates a new Projectile object and gives it the Player's 
-	 * position and the cursor coordinates to which it will be directed.
-	 * @param playerX the horizontal pixel position.
-	 * @param playerY the vertical pixel position.
-	 */
-	public void spit(final float playerX, final float playerY) {
-		EnemyProjectile p = new EnemyProjectile(
-				getX(), getY(), playerX, playerY, bulletDamage);
-		getProjectiles().add(p);
-	}
 	
 	/**
 	 * Reduces health of enemy.
@@ -220,28 +109,20 @@ public class Enemy {
 	 * @return boolean
 	 */
 	public boolean takeDamage(final float damage) {
-		health -= damage;
-		if (health <= 0) {
+		float[] health = store.getHealth();
+		health[slot] -= damage;
+		if (health[slot] <= 0) {
 			return true;
 		}
 		return false;
 	}
 	
-	/**
-	 * Clears world of projectiles shot by this enemy before deletion of the enemy.
-	 */
-	public void purgeProjectiles() {
-		for (EnemyProjectile x : projectiles) {
-			x.deletable(10);
-		}
-	}
-	
 	/**
 	 * Sets health.
 	 * @param health enemy health
 	 */
 	public void setHealth(final float health) {
-		this.health = health;
+		store.getHealth()[slot] = health;
 	}
 	
 	/**
@@ -249,15 +130,17 @@ public class Enemy {
 	 * @return health
 	 */
 	public float getHealth() {
-		return health;
+		return store.getHealth()[slot];
 	}
 	
 	/**
-	 * Multiplies health by multiplier.
+	 * Scales the enemy to the difficulty: multiplies its health and
+	 * sets the multiplier its charge speeds scale with.
 	 * @param mult multiplier
 	 */
-	public void multHealth(final float mult) {
-		health *= mult;
+	public void setMultiplier(final float mult) {
+		store.getHealth()[slot] *= mult;
+		store.getMultiplier()[slot] = mult;
 	}
 	
 	/**
@@ -265,17 +148,15 @@ public class Enemy {
 	 * @return bodyDamage
 	 */
 	public float getBodyDamage() {
-		return bodyDamage;
+		return store.getBodyDamage()[slot];
 	}
 	
 	/**
-	 * Empties the enemy's array of projectiles and marks the body for deletion.
-	 * @return false
+	 * Queues the body for destruction after the next physics step.
+	 * Until then it is tagged so that contacts and rendering ignore it.
 	 */
-	public boolean setDeletable() {
-		purgeProjectiles();
-		solidBody.setUserData("deletable");
-		return false;
+	public void setDeletable() {
+		sim.getDestructionQueue().enqueue(solidBody);
 	}
 	
 	/**
@@ -283,15 +164,16 @@ public class Enemy {
 	 * @param mult multiplier
 	 */
 	public void multMaxVelocity(final float mult) {
-		maxVelocity *= mult;
+		store.getMaxVelocity()[slot] *= mult;
 	}
 	
 	/**
-	 * Returns list of projectiles.
-	 * @return projectiles
+	 * Returns true if the enemy has a component.
+	 * @param component one of the EnemyStore component flags
+	 * @return true if it has the component
 	 */
-	public ArrayList<EnemyProjectile> getProjectiles() {
-		return projectiles;
+	public boolean has(final int component) {
+		return (store.getComponents()[slot] & component) != 0;
 	}
 	
 	/**
@@ -302,14 +184,6 @@ public class Enemy {
 		return solidBody;
 	}
 	
-	/**
-	 * Returns the shape of the body.
-	 * @return body
-	 */
-	public Circle getShapeBody() {
-		return body;
-	}
-	
 	/**
 	 * Returns body fixture.
 	 * @return Enemy's body fixture
@@ -319,91 +193,43 @@ public class Enemy {
 	}
 	
 	/**
-	 * Sets the body damage.
-	 * @param damage damage
-	 */
-	public void setBodyDamage(final float damage) {
-		bodyDamage = damage;
-	}
-	
-	/**
-	 * Sets body's maximum velocity.
-	 * @param v velocity
-	 */
-	public void setMaxVelocity(final float v) {
-		maxVelocity = v;
-	}
-	
-	/**
-	 * Sets coordinates.
-	 * @param pos position
-	 */
-	public void setPosition(final Vector2 pos) {
-		position = pos;
-	}
-	
-	/**
-	 * Increases accumulator of delta.
-	 * @param dt delta time
-	 */
-	public void incAccumulator(final float dt) {
-		accumulator += dt;
-	}
-	
-	/**
-	 * Sets bullet damage.
-	 * @param d damage
-	 */
-	public void setBulletDamage(final int d) {
-		bulletDamage = d;
-	}
-	
-	/**
-	 * Sets X position of the player.
-	 * @param x x coordinate
-	 */
-	public void setPlayerX(final float x) {
-		playerX = x;
-	}
-	
-	/**
-	 * Sets Y position of the player.
-	 * @param y y coordinate
+	 * Returns body's horizontal position as of the start of the tick.
+	 * @return physical body's X.
 	 */
-	public void setPlayerY(final float y) {
-		playerY = y;
+	public float getX() {
+		return store.getX()[slot];
 	}
 	
 	/**
-	 * Returns X position of the player.
-	 * @return Player's x coordinate.
+	 * Returns body's vertical position as of the start of the tick.
+	 * @return physical body's Y.
 	 */
-	public float getPlayerX() {
-		return playerX;
+	public float getY() {
+		return store.getY()[slot];
 	}
 	
 	/**
-	 * Returns Y position of the player.
-	 * @return Player's y coordinate.
+	 * Returns the enemy's slot in the store.
+	 * @return slot, or -1 once removed
 	 */
-	public float getPlayerY() {
-		return playerY;
+	public int getSlot() {
+		return slot;
 	}
 	
 	/**
-	 * Returns body's horizontal position.
-	 * @return physical body's X.
+	 * Moves the enemy to another slot. Only called by the store.
+	 * @param slot new slot
 	 */
-	public float getX() {
-		return getBody().getPosition().x;
+	void setSlot(final int slot) {
+		this.slot = slot;
 	}
 	
 	/**
-	 * Returns body's vertical position.
-	 * @return physical body's Y.
+	 * Returns the kind of enemy.
+	 * @return type
 	 */
-	public float getY() {
-		return getBody().getPosition().y;
+	public EntityType getType() {
+		return type;
 	}
 	
 }
@@ -0,0 +1,244 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+
+/**
+ * What every enemy of a type starts with: its body, its stats, its
+ * weapon and which of the store's optional components it has. This
+ * is all that sets one kind of enemy apart from another. Archetypes are looked up by EntityType ordinal and are
+ * immutable, so they are shared by every simulation. Bodies are built
+ * from the definitions of the simulation they are built in, since Box2D
+ * copies both when a body is created. Types that are not enemies have
+ * no archetype.
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public final class EnemyArchetype {
+
+	/** Friction of every enemy body. */
+	private static final float FRICTION = 0.4f;
+
+	/** Archetype of each type by ordinal, null if not an enemy. */
+	private static final EnemyArchetype[] ARCHETYPES =
+			new EnemyArchetype[EntityType.values().length];
+
+	static {
+		define(EntityType.SWARMER, EnemyStore.FOLLOWS | EnemyStore.FLOCKS,
+				GameEngine.getSwarmRadius(), 0.1f, 0.95f, 10f, 10f, 60f, 0, 0, 0);
+		define(EntityType.SPITTER, EnemyStore.ARMED,
+				GameEngine.getSpitterRadius(), 0.9f, 0.5f, 30f, 15f, 0, 15f, 3.0f, 1);
+		define(EntityType.DEMON, EnemyStore.ARMED | EnemyStore.CHARGES | EnemyStore.BOSS,
+				GameEngine.getDemonRadius(), 0.9f, 0.5f, 1000f, 25f, 50f, 15f, 1.0f, 3);
+	}
+
+	/** Kind of enemy. */
+	private final EntityType type;
+
+	/** Optional components, as a mask of the EnemyStore flags. */
+	private final int components;
+
+	/** Radius in meters. */
+	private final float radius;
+
+	/** Starting health. */
+	private final float health;
+
+	/** Damage inflicted on touch. */
+	private final float bodyDamage;
+
+	/** Starting maximum velocity. */
+	private final float maxVelocity;
+
+	/** Damage inflicted by projectiles, 0 if the type does not shoot. */
+	private final float bulletDamage;
+
+	/** Time between volleys in seconds. */
+	private final float fireInterval;
+
+	/** Projectiles fired per volley, 0 if the type does not shoot. */
+	private final int volley;
+
+	/** Density of the body. */
+	private final float density;
+
+	/** Bounciness of the body. */
+	private final float restitution;
+
+	/**
+	 *
+	 * @param type kind of enemy
+	 * @param components optional components, as EnemyStore flags
+	 * @param radius radius in meters
+	 * @param density density of body
+	 * @param restitution bounciness of body
+	 * @param health starting health
+	 * @param bodyDamage damage inflicted on touch
+	 * @param maxVelocity starting maximum velocity
+	 * @param bulletDamage damage inflicted by projectiles, 0 for none
+	 * @param fireInterval time between volleys in seconds
+	 * @param volley projectiles fired per volley
+	 */
+	private EnemyArchetype(final EntityType type, final int components,
+			final float radius, final float density, final float restitution,
+			final float health, final float bodyDamage, final float maxVelocity,
+			final float bulletDamage, final float fireInterval, final int volley) {
+		this.type = type;
+		this.components = components;
+		this.volley = volley;
+		this.radius = radius;
+		this.health = health;
+		this.bodyDamage = bodyDamage;
+		this.maxVelocity = maxVelocity;
+		this.bulletDamage = bulletDamage;
+		this.fireInterval = fireInterval;
+		this.density = density;
+		this.restitution = restitution;
+	}
+
+	/**
+	 *
+	 * @param type kind of enemy
+	 * @param components optional components, as EnemyStore flags
+	 * @param radius radius in meters
+	 * @param density density of body
+	 * @param restitution bounciness of body
+	 * @param health starting health
+	 * @param bodyDamage damage inflicted on touch
+	 * @param maxVelocity starting maximum velocity
+	 * @param bulletDamage damage inflicted by projectiles, 0 for none
+	 * @param fireInterval time between volleys in seconds
+	 * @param volley projectiles fired per volley
+	 */
+	private static void define(final EntityType type, final int components,
+			final float radius, final float density, final float restitution,
+			final float health, final float bodyDamage, final float maxVelocity,
+			final float bulletDamage, final float fireInterval, final int volley) {
+		ARCHETYPES[type.ordinal()] = new EnemyArchetype(type, components, radius,
+				density, restitution, health, bodyDamage, maxVelocity,
+				bulletDamage, fireInterval, volley);
+	}
+
+	/**
+	 * Returns the archetype of a type.
+	 * @param type entity type
+	 * @return archetype, or null if the type is not an enemy
+	 */
+	public static EnemyArchetype of(final EntityType type) {
+		return ARCHETYPES[type.ordinal()];
+	}
+
+	/**
+	 * Creates a body of this type in a simulation's world with the
+	 * type's shared circle as its only fixture. The definitions are
+	 * the simulation's own and are filled in again on every build.
+	 * @param sim simulation the body is built in
+	 * @param x X spawn coordinate
+	 * @param y Y spawn coordinate
+	 * @return body, tagged with the type
+	 */
+	public Body build(final Simulation sim, final float x, final float y) {
+		BodyDef bodyDef = sim.getBodyDef();
+		bodyDef.type = BodyType.DynamicBody;
+		bodyDef.position.set(x, y);
+		Body body = sim.getWorld().createBody(bodyDef);
+		body.setUserData(type);
+		FixtureDef fixtureDef = sim.getFixtureDef();
+		fixtureDef.shape = sim.getShapes().circle(type, radius);
+		fixtureDef.density = density;
+		fixtureDef.friction = FRICTION;
+		fixtureDef.restitution = restitution;
+		CollisionFilter.apply(fixtureDef, type);
+		body.createFixture(fixtureDef);
+		return body;
+	}
+
+	/**
+	 * Returns the kind of enemy.
+	 * @return type
+	 */
+	public EntityType getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the optional components of the type.
+	 * @return mask of EnemyStore flags
+	 */
+	public int getComponents() {
+		return components;
+	}
+
+	/**
+	 * Returns the radius.
+	 * @return radius in meters
+	 */
+	public float getRadius() {
+		return radius;
+	}
+
+	/**
+	 * Returns the starting health.
+	 * @return health
+	 */
+	public float getHealth() {
+		return health;
+	}
+
+	/**
+	 * Returns the damage inflicted on touch.
+	 * @return bodyDamage
+	 */
+	public float getBodyDamage() {
+		return bodyDamage;
+	}
+
+	/**
+	 * Returns the starting maximum velocity.
+	 * @return maxVelocity
+	 */
+	public float getMaxVelocity() {
+		return maxVelocity;
+	}
+
+	/**
+	 * Returns the damage inflicted by projectiles.
+	 * @return bulletDamage, 0 if the type does not shoot
+	 */
+	public float getBulletDamage() {
+		return bulletDamage;
+	}
+
+	/**
+	 * Returns the time between volleys.
+	 * @return fireInterval in seconds
+	 */
+	public float getFireInterval() {
+		return fireInterval;
+	}
+
+	/**
+	 * Returns the projectiles fired per volley.
+	 * @return volley, 0 if the type does not shoot
+	 */
+	public int getVolley() {
+		return volley;
+	}
+
+	/**
+	 * Returns the density of the body.
+	 * @return density
+	 */
+	public float getDensity() {
+		return density;
+	}
+
+	/**
+	 * Returns the bounciness of the body.
+	 * @return restitution
+	 */
+	public float getRestitution() {
+		return restitution;
+	}
+}
@@ -1,48 +1,113 @@
 package com.mygdx.game; 
 
-import java.util.ArrayList;
 import java.util.Random;
 
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
 
 /**
  * EnemyManager class spawns and keeps track of all enemy objects.
+ * Each update runs the enemy systems over the store in order: body
+ * sync, health, spatial index, spawning, steering and flocking,
+ * charging and weapons.
  * 
  * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
  */
 public class EnemyManager {
 
+	/** Width and height of a spatial index cell in meters. */
+	private static final float INDEX_CELL_SIZE = 4f;
+	
+	/** Half width of the square a spawn point must keep clear. */
+	private static final float SPAWN_CLEARANCE = 1f;
+	
+	/** Closest a single enemy may spawn to the player. */
+	private static final float SPAWN_DISTANCE = 50f;
+	
+	/** Closest a swarmer group may spawn to the player. */
+	private static final float GROUP_SPAWN_DISTANCE = 70f;
+	
+	/** Closest a single enemy may spawn to the arena edge. */
+	private static final float SPAWN_MARGIN = 1f;
+	
+	/** Closest a swarmer group may spawn to the arena edge. */
+	private static final float GROUP_SPAWN_MARGIN = 25f;
+	
+	/** Most candidate points drawn per spawn. */
+	private static final int SPAWN_ATTEMPTS = 16;
+	
+	/**
+	 * Width and height of a flow field cell in meters. At 4 m the full
+	 * arena is 320x180 cells and a search restart costs about 0.2 ms
+	 * with 2000 swarmers, against about 0.7 ms at 2 m.
+	 */
+	private static final float FLOW_CELL_SIZE = 4f;
+	
+	/**
+	 * Most flow field steps from the player searched, enough to reach
+	 * every corner of the view. Swarmers further away steer straight.
+	 */
+	private static final int FLOW_RANGE = 64;
+	
+	/** Distance within which swarmers flock together. */
+	private static final float FLOCK_RADIUS = 3f;
+	
+	/** Distance within which flocking swarmers push each other apart. */
+	private static final float FLOCK_SEPARATION = 2.5f;
+	
+	/** Strength of flock separation, as a fraction of max velocity. */
+	private static final float SEPARATION_WEIGHT = 1.5f;
+	
+	/** Strength of flock alignment. */
+	private static final float ALIGNMENT_WEIGHT = 0.1f;
+	
+	/** Strength of flock cohesion, as a fraction of max velocity. */
+	private static final float COHESION_WEIGHT = 0.05f;
+	
+	/** Most neighbors a flocking swarmer considers. */
+	private static final int FLOCK_NEIGHBORS = 8;
+	
+	/** Fewest enemies for which steering is split across cores. */
+	private static final int PARALLEL_STEERING_THRESHOLD = 2000;
+
+	/** Simulation the enemies are built in. */
+	private final Simulation sim;
+	
 	/** Pre-instantiated player. */
 	private Player player;
-	
-	/** Pre-instantiated world. */
-	private World world;
 
 	/**  */
 	private Random rand;
 	
-	/**  */
-	private Swarmer swarmer;
+	/** Position, velocity and health of every live enemy. */
+	private EnemyStore store;
 	
-	/**  */
-	private Spitter spitter;
+	/** Parked projectiles shared by every enemy that spits. */
+	private ProjectilePool projectilePool;
 	
-	/**  */
-	private Demon demon;
+	/** Fires the volleys of armed enemies. */
+	private WeaponSystem weapons;
 	
-	/**  */
-	private ArrayList<Enemy> enemies;
+	/** Drives the enemies that charge. */
+	private ChargeSystem charges;
 	
-	/**  */
-	private Array<Body> bodies;
+	/** Shortest paths to the player, followed by swarmers. */
+	private FlowField flowField;
+	
+	/** Spreads swarmers out before they collide. */
+	private Flock flock;
+	
+	/** Steers swarmers, across several cores once there are enough. */
+	private ParallelSteering steering;
+	
+	/** Positions of the player and all enemies, rebuilt each tick. */
+	private SpatialHash index;
 	
 	/**  */
-	private int viewWidth;
+	private int arenaWidth;
 	
 	/**  */
-	private int viewHeight;
+	private int arenaHeight;
 	
 	/**  */
 	private float playerX;
@@ -50,11 +115,14 @@ public class EnemyManager {
 	/**  */
 	private float playerY;
 	
-	/**  */
-	private int spawnX;
+	/** Picks spawn points away from the player. */
+	private SpawnPointGenerator spawnPoints;
 	
-	/**  */
-	private int spawnY;
+	/** Told of spawns and demon deaths. */
+	private final Telemetry telemetry;
+	
+	/** Spawn point found by spawnPoints. */
+	private Vector2 spawnPoint;
 	
 	/**  */
 	private float swarmerAccumulator;
@@ -68,15 +136,6 @@ public class EnemyManager {
 	/**  */
 	private float demonTime = 90; // half-seconds(roughly)
 	
-	/**  */
-	private float playerSum;
-	
-	/**  */
-	private float spawnSum;
-	
-	/**  */
-	private boolean validSpawn;
-	
 	/**  */
 	private boolean spawned = false;
 	
@@ -103,18 +162,28 @@ public class EnemyManager {
 	//every 10 seconds create a spawn packet so that enemies spawn  close together
 	/**
 	 * 
-	 * @param viewWidth viewport width
-	 * @param viewHeight viewport height
+	 * @param sim simulation the enemies are built in
 	 * @param player instantiated player
 	 */
-	public EnemyManager(final int viewWidth, final int viewHeight, final Player player) {
-		this.viewWidth = viewWidth;
-		this.viewHeight = viewHeight;
+	public EnemyManager(final Simulation sim, final Player player) {
+		this.sim = sim;
+		arenaWidth = sim.getArenaWidth();
+		arenaHeight = sim.getArenaHeight();
 		this.player = player;
-		world = GameEngine.getWorld();
-		enemies = new ArrayList<Enemy>();
-		bodies = new Array<Body>();
+		store = new EnemyStore();
+		flowField = new FlowField(arenaWidth, arenaHeight, FLOW_CELL_SIZE, FLOW_RANGE);
+		flock = new Flock(FLOCK_RADIUS, FLOCK_SEPARATION,
+				SEPARATION_WEIGHT, ALIGNMENT_WEIGHT, COHESION_WEIGHT, FLOCK_NEIGHBORS);
+		steering = new ParallelSteering(PARALLEL_STEERING_THRESHOLD);
+		index = new SpatialHash(arenaWidth, arenaHeight, INDEX_CELL_SIZE);
 		rand = new Random();
+		spawnPoints = new SpawnPointGenerator(arenaWidth, arenaHeight, SPAWN_ATTEMPTS, rand);
+		spawnPoint = new Vector2();
+		projectilePool = new ProjectilePool(sim, EntityType.ENEMY_PROJECTILE,
+				GameEngine.ENEMY_PROJECTILE_SPEED, GameEngine.ENEMY_PROJECTILE_POOL_SIZE);
+		weapons = new WeaponSystem(projectilePool);
+		charges = new ChargeSystem();
+		telemetry = sim.getTelemetry();
 	}
 	
 	/**
@@ -132,93 +201,128 @@ public class EnemyManager {
 			demonAccumulator += deltaTime;
 		}
 		time += deltaTime;
+		store.sync(deltaTime);
+		removeDead();
+		rebuildIndex();
 		trackProgress();
 		spawn();
-		for (int i = 0; i < enemies.size(); i++) {
-			if (enemies.get(i).getHealth() <= 0) {
-				if (enemies.get(i).setDeletable()) { // only returns true for a dead demon
+		steerSwarmers();
+		charges.update(store, playerX, playerY, deltaTime);
+		weapons.update(store, playerX, playerY, deltaTime);
+	}
+	
+	/**
+	 * Destroys every enemy whose health has run out. Walks the store
+	 * backwards so that the enemy swapped into a freed slot has
+	 * already been checked.
+	 */
+	private void removeDead() {
+		float[] health = store.getHealth();
+		int[] components = store.getComponents();
+		for (int i = store.size() - 1; i >= 0; i--) {
+			if (health[i] <= 0) {
+				if ((components[i] & EnemyStore.BOSS) != 0) {
 					demonSpawned = false;
 					demonSlain();
 				}
-				enemies.remove(i);
-			} else {
-				enemies.get(i).update(playerX, playerY);				
+				destroy(i);
+			}
+		}
+	}
+	
+	/**
+	 * Returns an enemy's projectiles in flight to the pool, queues its
+	 * body for destruction and frees its slot.
+	 * @param i slot
+	 */
+	private void destroy(final int i) {
+		Enemy e = store.getEnemy(i);
+		if ((store.getComponents()[i] & EnemyStore.ARMED) != 0) {
+			weapons.disarm(e);
+		}
+		e.setDeletable();
+		store.remove(i);
+	}
+	
+	/**
+	 * Moves every swarmer along the flow field to the player, possibly
+	 * on several threads, spreads the flock apart, then hands the
+	 * results to their bodies on this thread. The field is only rebuilt
+	 * when the player has moved to another cell.
+	 */
+	private void steerSwarmers() {
+		flowField.update(playerX, playerY);
+		steering.steer(store, flowField, playerX, playerY);
+		flock.apply(store, index);
+		int[] components = store.getComponents();
+		Body[] bodies = store.getBodies();
+		float[] vx = store.getVelocityX();
+		float[] vy = store.getVelocityY();
+		for (int i = 0; i < store.size(); i++) {
+			if ((components[i] & EnemyStore.FOLLOWS) != 0) {
+				bodies[i].setLinearVelocity(vx[i], vy[i]);
 			}
 		}
 	}
 
 	/**
-	 * 
+	 * Spawns a spitter or a swarmer once their timers are due. At most
+	 * one enemy spawns per update. If no valid spawn point is found the
+	 * timer is left as is and the spawn is retried on the next update.
 	 */
 	private void spawn() {
-		playerSum = playerX + playerY;
-		validSpawn = false;
+		if (demonSpawned) {
+			return;
+		}
 		if (spitterAccumulator >= spitterSpawnTime) { // spitter
-			while (!validSpawn && !demonSpawned) {
-				spawnX = rand.nextInt(viewWidth - 2);
-				spawnX++; // in case 0
-				spawnY = rand.nextInt(viewHeight - 2);
-				spawnY++;
-				spawnSum = spawnX + spawnY;
-				if (Math.abs(spawnSum - playerSum) > 120) {
-					spitter = new Spitter(spawnX, spawnY);
-					//swarmer.multFireRate(multiplier);
-					enemies.add(spitter);
-					spitterAccumulator = 0;
-					validSpawn = true;
-				}
+			if (spawnPoints.next(playerX, playerY, SPAWN_DISTANCE, SPAWN_MARGIN, spawnPoint)) {
+				Enemy spitter = new Enemy(sim, EntityType.SPITTER, spawnPoint.x, spawnPoint.y);
+				//swarmer.multFireRate(multiplier);
+				addEnemy(spitter);
+				telemetry.spawned(EntityType.SPITTER, 1, 1);
+				spitterAccumulator = 0;
+				return;
 			}
 		}
 		if (swarmerAccumulator >= swarmerSpawnTime) { // swarmer
-			while (!validSpawn && !demonSpawned) {
-				spawnX = rand.nextInt(viewWidth - 2);
-				spawnX++;
-				spawnY = rand.nextInt(viewHeight - 2);
-				spawnY++;
-				spawnSum = spawnX + spawnY;
-				if (Math.abs(spawnSum - playerSum) > 120) {
-					if (!checkOverlap(spawnX, spawnY)) {
-						swarmer = new Swarmer(spawnX, spawnY);
-						swarmer.multMaxVelocity(multiplier);
-						enemies.add(swarmer);
-						swarmerAccumulator = 0;
-						validSpawn = true;
-					}
+			if (spawnPoints.next(playerX, playerY, SPAWN_DISTANCE, SPAWN_MARGIN, spawnPoint)) {
+				if (!checkOverlap(spawnPoint.x, spawnPoint.y)) {
+					Enemy swarmer = new Enemy(sim, EntityType.SWARMER, spawnPoint.x, spawnPoint.y);
+					swarmer.multMaxVelocity(multiplier);
+					addEnemy(swarmer);
+					telemetry.spawned(EntityType.SWARMER, 1, 1);
+					swarmerAccumulator = 0;
+				} else {
+					spawnPoints.reject();
 				}
 			}
 		}
 	}
 	
-	//"Or maybe you can do AABB query before spawning a body to check if there is 
-	//already a body at the spawn location"
-	// make sure it's spawning in bounds, and not on another body
-	// use try catch to check failure location?
 	/**
-	 * 
+	 * Spawns a 6 by 3 block of swarmers far from the player, skipping
+	 * any slot already occupied. If no valid spawn point is found the
+	 * group is skipped.
 	 */
 	private void spawnSwarmerGroup() {
-		playerSum = playerX + playerY;
-		validSpawn = false;
-		while (!validSpawn && !demonSpawned) {
-			spawnX = rand.nextInt(viewWidth - 50);
-			spawnX += 25;
-			spawnY = rand.nextInt(viewHeight - 50);
-			spawnY += 25;
-			spawnSum = spawnX + spawnY;
-			if (Math.abs(spawnSum - playerSum) > (viewWidth / 2 - 25)) {
-				validSpawn = true;
-				for (int i = 0; i < 3; i++) {
-					for (int j =  0; j < 6; j++) {
-						int x = spawnX + j * 3;
-						int y = spawnY + i * 3;
-						if (!checkOverlap(x, y)) {
-							swarmer = new Swarmer(x, y);
-							swarmer.multMaxVelocity(multiplier);
-							enemies.add(swarmer);
-						}
+		if (!demonSpawned && spawnPoints.next(playerX, playerY, 
+				GROUP_SPAWN_DISTANCE, GROUP_SPAWN_MARGIN, spawnPoint)) {
+			int spawnX = (int) spawnPoint.x;
+			int spawnY = (int) spawnPoint.y;
+			int spawned = 0;
+			for (int i = 0; i < 3; i++) {
+				for (int j =  0; j < 6; j++) {
+					int x = spawnX + j * 3;
+					int y = spawnY + i * 3;
+					if (!checkOverlap(x, y)) {
+						Enemy swarmer = new Enemy(sim, EntityType.SWARMER, x, y);
+						swarmer.multMaxVelocity(multiplier);
+						addEnemy(swarmer);
+						spawned++;
 					}
 				}
 			}
+			telemetry.spawned(EntityType.SWARMER, 3 * 6, spawned);
 		}
 	}
 
@@ -228,21 +332,101 @@ public class EnemyManager {
 	 * @param spawnY Proposed y spawn coordinate
 	 * @return true if overlap
 	 */
-	private boolean checkOverlap(final int spawnX, final int spawnY) {
-		world.getBodies(bodies);
-		for (Body b : bodies) {
-			if (spawnX > (b.getPosition().x - 1) && spawnX < (b.getPosition().x + 1) 
-				&& spawnY > (b.getPosition().y - 1) && spawnY < (b.getPosition().y + 1)) {
-				return true;
-			}
+	private boolean checkOverlap(final float spawnX, final float spawnY) {
+		return index.overlaps(spawnX, spawnY, SPAWN_CLEARANCE);
+	}
+	
+	/**
+	 * Re-indexes the positions of the player and every live enemy.
+	 */
+	private void rebuildIndex() {
+		index.clear();
+		index.insert(playerX, playerY, player);
+		float[] x = store.getX();
+		float[] y = store.getY();
+		for (int i = 0; i < store.size(); i++) {
+			index.insert(x[i], y[i], store.getEnemy(i), i);
+		}
+	}
+	
+	/**
+	 * Indexes a newly spawned enemy so that later spawns in the same
+	 * tick do not overlap it. The enemy placed itself in the store
+	 * when it was constructed.
+	 * @param e enemy
+	 */
+	private void addEnemy(final Enemy e) {
+		index.insert(e.getX(), e.getY(), e, e.getSlot());
+	}
+	
+	/**
+	 * Returns the store of live enemies.
+	 * @return store
+	 */
+	public EnemyStore getStore() {
+		return store;
+	}
+	
+	/**
+	 * Returns the flow field swarmers follow to the player.
+	 * @return flowField
+	 */
+	public FlowField getFlowField() {
+		return flowField;
+	}
+	
+	/**
+	 * Returns the spatial index of the player and live enemies,
+	 * rebuilt every update once the dead are removed.
+	 * @return index
+	 */
+	public SpatialHash getIndex() {
+		return index;
+	}
+	
+	/**
+	 * Returns the number of spawns that found no valid spawn point.
+	 * @return spawn failures
+	 */
+	public int getSpawnFailures() {
+		return spawnPoints.getFailures();
+	}
+	
+	/**
+	 * Returns the pool enemy projectiles are drawn from.
+	 * @return projectilePool
+	 */
+	public ProjectilePool getProjectilePool() {
+		return projectilePool;
+	}
+	
+	/**
+	 * Starts a new session: destroys every enemy along with its
+	 * projectiles, which go back to the pool, and restarts the spawn
+	 * timers and difficulty. The bodies are only queued for
+	 * destruction, so the caller drains the queue.
+	 */
+	public void reset() {
+		for (int i = store.size() - 1; i >= 0; i--) {
+			destroy(i);
 		}
-		return false;
+		weapons.reset();
+		index.clear();
+		swarmerAccumulator = 0;
+		spitterAccumulator = 0;
+		demonAccumulator = 0;
+		time = 0;
+		spawned = false;
+		demonSpawned = false;
+		multiplier = 1;
+		demonsSlain = 0;
 	}
 	
 	/**
 	 * 
 	 */
 	public void demonSlain() {
+		telemetry.demonSlain();
 		demonAccumulator = 0;
 		demonsSlain++;
 		// adjust player's shoot speed
@@ -267,9 +451,10 @@ public class EnemyManager {
 		}
 
 		if (demonAccumulator >= demonTime && !demonSpawned) {
-			demon = new Demon(GameEngine.getViewWidth() / 2, GameEngine.getViewHeight() / 2);
+			Enemy demon = new Enemy(sim, EntityType.DEMON, arenaWidth / 2, arenaHeight / 2);
 			demon.setMultiplier(multiplier);
-			enemies.add(demon);
+			addEnemy(demon);
+			telemetry.demonSpawned();
 			demonSpawned = true;
 			demonAccumulator = 0;
 		}
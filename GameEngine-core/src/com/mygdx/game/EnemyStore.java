@@ -0,0 +1,511 @@
+package com.mygdx.game;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/**
+ * EnemyStore class holds the components of every live enemy in
+ * parallel primitive arrays, one slot per enemy, so that the systems
+ * run each tick walk contiguous memory instead of chasing enemy
+ * objects around the heap. Live enemies always occupy slots
+ * 0 to size() - 1; removing one moves the last enemy into its slot.
+ * The arrays grow as needed, so they must be fetched again after an
+ * enemy is added.
+ *
+ * Every enemy has a body link, position, velocity, health and type.
+ * Which of the optional components it has is a bit mask taken from
+ * its archetype: FOLLOWS and FLOCKS for swarmers, ARMED for enemies
+ * with a weapon, CHARGES and BOSS for the demon. The columns of a
+ * component an enemy lacks hold zeros and are skipped by the systems.
+ * There are no enemy subclasses; a kind of enemy is only the data its
+ * archetype puts in its slot.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class EnemyStore {
+
+	/** Slots allocated up front. */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** Steered along the flow field towards the player. */
+	public static final int FOLLOWS = 1;
+
+	/** Spread apart from the other flocking enemies around it. */
+	public static final int FLOCKS = 1 << 1;
+
+	/** Fires volleys of projectiles at the player. */
+	public static final int ARMED = 1 << 2;
+
+	/** Stops and charges at the player once badly hurt. */
+	public static final int CHARGES = 1 << 3;
+
+	/** Ends the boss fight when it dies. */
+	public static final int BOSS = 1 << 4;
+
+	/** Charge state of an enemy not charging. */
+	static final byte IDLE = 0;
+
+	/** Charge state of an enemy stopped before charging. */
+	static final byte WINDING_UP = 1;
+
+	/** Charge state of an enemy charging. */
+	static final byte CHARGING = 2;
+
+	/** Seconds after being pushed away before an enemy steers again. */
+	static final float PUSH_RECOVERY = 1.0f;
+
+	/** Enemy occupying each slot. */
+	private Enemy[] enemies;
+
+	/** Physical body of each enemy. */
+	private Body[] bodies;
+
+	/** Components each enemy has, as a mask of the flags above. */
+	private int[] components;
+
+	/** Horizontal positions. */
+	private float[] x;
+
+	/** Vertical positions. */
+	private float[] y;
+
+	/** Horizontal velocities. */
+	private float[] vx;
+
+	/** Vertical velocities. */
+	private float[] vy;
+
+	/** Remaining health. */
+	private float[] health;
+
+	/** Steering speed limits. */
+	private float[] maxVelocity;
+
+	/** Time since each enemy was last pushed away from the player. */
+	private float[] pushTime;
+
+	/** EntityType ordinal of each enemy. */
+	private byte[] type;
+
+	/** Damage inflicted on touch. */
+	private float[] bodyDamage;
+
+	/** Weapon: damage inflicted by each projectile. */
+	private float[] bulletDamage;
+
+	/** Weapon: time between volleys in seconds. */
+	private float[] fireInterval;
+
+	/** Weapon: time since the last volley. */
+	private float[] fireTime;
+
+	/** Weapon: projectiles fired per volley. */
+	private byte[] volley;
+
+	/** Charge: health the thresholds are fractions of. */
+	private float[] baseHealth;
+
+	/** Charge: difficulty the charge speeds scale with. */
+	private float[] multiplier;
+
+	/** Charge: time since the last charge ended. */
+	private float[] chargeTime;
+
+	/** Charge: time since the enemy stopped to charge. */
+	private float[] windup;
+
+	/** Charge: IDLE, WINDING_UP or CHARGING. */
+	private byte[] chargeState;
+
+	/** Number of live enemies. */
+	private int size;
+
+	/**
+	 *
+	 */
+	public EnemyStore() {
+		enemies = new Enemy[INITIAL_CAPACITY];
+		bodies = new Body[INITIAL_CAPACITY];
+		components = new int[INITIAL_CAPACITY];
+		x = new float[INITIAL_CAPACITY];
+		y = new float[INITIAL_CAPACITY];
+		vx = new float[INITIAL_CAPACITY];
+		vy = new float[INITIAL_CAPACITY];
+		health = new float[INITIAL_CAPACITY];
+		maxVelocity = new float[INITIAL_CAPACITY];
+		pushTime = new float[INITIAL_CAPACITY];
+		type = new byte[INITIAL_CAPACITY];
+		bodyDamage = new float[INITIAL_CAPACITY];
+		bulletDamage = new float[INITIAL_CAPACITY];
+		fireInterval = new float[INITIAL_CAPACITY];
+		fireTime = new float[INITIAL_CAPACITY];
+		volley = new byte[INITIAL_CAPACITY];
+		baseHealth = new float[INITIAL_CAPACITY];
+		multiplier = new float[INITIAL_CAPACITY];
+		chargeTime = new float[INITIAL_CAPACITY];
+		windup = new float[INITIAL_CAPACITY];
+		chargeState = new byte[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Gives an enemy the next free slot, filled in from its archetype.
+	 * @param e enemy
+	 * @param archetype what every enemy of the type starts with
+	 * @param body the enemy's physical body
+	 * @param spawnX X spawn coordinate
+	 * @param spawnY Y spawn coordinate
+	 * @return slot
+	 */
+	int add(final Enemy e, final EnemyArchetype archetype, final Body body,
+			final float spawnX, final float spawnY) {
+		if (size == enemies.length) {
+			grow();
+		}
+		int i = size++;
+		enemies[i] = e;
+		bodies[i] = body;
+		components[i] = archetype.getComponents();
+		x[i] = spawnX;
+		y[i] = spawnY;
+		vx[i] = 0;
+		vy[i] = 0;
+		health[i] = archetype.getHealth();
+		maxVelocity[i] = archetype.getMaxVelocity();
+		pushTime[i] = PUSH_RECOVERY;
+		type[i] = (byte) archetype.getType().ordinal();
+		bodyDamage[i] = archetype.getBodyDamage();
+		bulletDamage[i] = archetype.getBulletDamage();
+		fireInterval[i] = archetype.getFireInterval();
+		fireTime[i] = 0;
+		volley[i] = (byte) archetype.getVolley();
+		baseHealth[i] = archetype.getHealth();
+		multiplier[i] = 1;
+		chargeTime[i] = 0;
+		windup[i] = 0;
+		chargeState[i] = IDLE;
+		return i;
+	}
+
+	/**
+	 * Frees a slot by moving the last enemy into it.
+	 * @param i slot
+	 */
+	public void remove(final int i) {
+		int last = --size;
+		enemies[i].setSlot(-1);
+		if (i != last) {
+			enemies[i] = enemies[last];
+			bodies[i] = bodies[last];
+			components[i] = components[last];
+			x[i] = x[last];
+			y[i] = y[last];
+			vx[i] = vx[last];
+			vy[i] = vy[last];
+			health[i] = health[last];
+			maxVelocity[i] = maxVelocity[last];
+			pushTime[i] = pushTime[last];
+			type[i] = type[last];
+			bodyDamage[i] = bodyDamage[last];
+			bulletDamage[i] = bulletDamage[last];
+			fireInterval[i] = fireInterval[last];
+			fireTime[i] = fireTime[last];
+			volley[i] = volley[last];
+			baseHealth[i] = baseHealth[last];
+			multiplier[i] = multiplier[last];
+			chargeTime[i] = chargeTime[last];
+			windup[i] = windup[last];
+			chargeState[i] = chargeState[last];
+			enemies[i].setSlot(i);
+		}
+		enemies[last] = null;
+		bodies[last] = null;
+	}
+
+	/**
+	 * Copies every enemy's position and velocity out of its physical
+	 * body and advances the push recovery timers.
+	 * @param delta simulated seconds
+	 */
+	public void sync(final float delta) {
+		for (int i = 0; i < size; i++) {
+			Body b = bodies[i];
+			Vector2 pos = b.getPosition();
+			x[i] = pos.x;
+			y[i] = pos.y;
+			Vector2 vel = b.getLinearVelocity();
+			vx[i] = vel.x;
+			vy[i] = vel.y;
+			pushTime[i] += delta;
+		}
+	}
+
+	/**
+	 * Aims an enemy's velocity at the target at its full speed. An
+	 * enemy level with the target moves straight across, and one
+	 * exactly on it stops. An enemy recently pushed away keeps its
+	 * current velocity.
+	 * @param i slot
+	 * @param targetX target's X coordinate
+	 * @param targetY target's Y coordinate
+	 */
+	public void steer(final int i, final float targetX, final float targetY) {
+		if (pushTime[i] > PUSH_RECOVERY) {
+			float dX = targetX - x[i];
+			float dY = targetY - y[i];
+			float max = maxVelocity[i];
+			if (dY == 0) {
+				// the slope would be infinite
+				vx[i] = Math.signum(dX) * max;
+				vy[i] = 0;
+				return;
+			}
+			float slope = Math.abs(dX / dY);
+			if (dX > 0) {
+				vx[i] = max * (slope / (slope + 1));
+			} else if (dX < 0) {
+				vx[i] = -max * (slope / (slope + 1));
+			}
+			if (dY >= 0) {
+				vy[i] = max * (1 / (slope + 1));
+			} else if (dY < 0) {
+				vy[i] = -max * (1 / (slope + 1));
+			}
+		}
+	}
+
+	/**
+	 * Sets an enemy's velocity to its full speed along the flow field
+	 * direction of its cell. In the target's cell, or where the field
+	 * has no path, it steers straight at the target instead. An enemy
+	 * recently pushed away keeps its current velocity.
+	 * @param i slot
+	 * @param field flow field leading to the target
+	 * @param targetX target's X coordinate
+	 * @param targetY target's Y coordinate
+	 */
+	public void follow(final int i, final FlowField field,
+			final float targetX, final float targetY) {
+		if (pushTime[i] > PUSH_RECOVERY) {
+			int cell = field.cellOf(x[i], y[i]);
+			float dX = field.getDirectionX()[cell];
+			float dY = field.getDirectionY()[cell];
+			if (dX == 0 && dY == 0) {
+				steer(i, targetX, targetY);
+			} else {
+				vx[i] = dX * maxVelocity[i];
+				vy[i] = dY * maxVelocity[i];
+			}
+		}
+	}
+
+	/**
+	 * Doubles the capacity of every array.
+	 */
+	private void grow() {
+		int capacity = enemies.length * 2;
+		enemies = Arrays.copyOf(enemies, capacity);
+		bodies = Arrays.copyOf(bodies, capacity);
+		components = Arrays.copyOf(components, capacity);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		vx = Arrays.copyOf(vx, capacity);
+		vy = Arrays.copyOf(vy, capacity);
+		health = Arrays.copyOf(health, capacity);
+		maxVelocity = Arrays.copyOf(maxVelocity, capacity);
+		pushTime = Arrays.copyOf(pushTime, capacity);
+		type = Arrays.copyOf(type, capacity);
+		bodyDamage = Arrays.copyOf(bodyDamage, capacity);
+		bulletDamage = Arrays.copyOf(bulletDamage, capacity);
+		fireInterval = Arrays.copyOf(fireInterval, capacity);
+		fireTime = Arrays.copyOf(fireTime, capacity);
+		volley = Arrays.copyOf(volley, capacity);
+		baseHealth = Arrays.copyOf(baseHealth, capacity);
+		multiplier = Arrays.copyOf(multiplier, capacity);
+		chargeTime = Arrays.copyOf(chargeTime, capacity);
+		windup = Arrays.copyOf(windup, capacity);
+		chargeState = Arrays.copyOf(chargeState, capacity);
+	}
+
+	/**
+	 * Returns the number of live enemies.
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the enemy in a slot.
+	 * @param i slot
+	 * @return enemy
+	 */
+	public Enemy getEnemy(final int i) {
+		return enemies[i];
+	}
+
+	/**
+	 * Returns the physical body of each enemy by slot.
+	 * @return bodies
+	 */
+	public Body[] getBodies() {
+		return bodies;
+	}
+
+	/**
+	 * Returns the component mask of each enemy by slot.
+	 * @return components
+	 */
+	public int[] getComponents() {
+		return components;
+	}
+
+	/**
+	 * Returns horizontal positions by slot.
+	 * @return x
+	 */
+	public float[] getX() {
+		return x;
+	}
+
+	/**
+	 * Returns vertical positions by slot.
+	 * @return y
+	 */
+	public float[] getY() {
+		return y;
+	}
+
+	/**
+	 * Returns horizontal velocities by slot.
+	 * @return vx
+	 */
+	public float[] getVelocityX() {
+		return vx;
+	}
+
+	/**
+	 * Returns vertical velocities by slot.
+	 * @return vy
+	 */
+	public float[] getVelocityY() {
+		return vy;
+	}
+
+	/**
+	 * Returns health by slot.
+	 * @return health
+	 */
+	public float[] getHealth() {
+		return health;
+	}
+
+	/**
+	 * Returns steering speed limits by slot.
+	 * @return maxVelocity
+	 */
+	public float[] getMaxVelocity() {
+		return maxVelocity;
+	}
+
+	/**
+	 * Returns time since each enemy was last pushed away by slot.
+	 * @return pushTime
+	 */
+	public float[] getPushTime() {
+		return pushTime;
+	}
+
+	/**
+	 * Returns the EntityType ordinal of each enemy by slot.
+	 * @return type
+	 */
+	public byte[] getTypes() {
+		return type;
+	}
+
+	/**
+	 * Returns the damage each enemy inflicts on touch by slot.
+	 * @return bodyDamage
+	 */
+	public float[] getBodyDamage() {
+		return bodyDamage;
+	}
+
+	/**
+	 * Returns the damage of each armed enemy's projectiles by slot.
+	 * @return bulletDamage
+	 */
+	public float[] getBulletDamage() {
+		return bulletDamage;
+	}
+
+	/**
+	 * Returns the time between each armed enemy's volleys by slot.
+	 * @return fireInterval
+	 */
+	public float[] getFireInterval() {
+		return fireInterval;
+	}
+
+	/**
+	 * Returns the time since each armed enemy's last volley by slot.
+	 * @return fireTime
+	 */
+	public float[] getFireTime() {
+		return fireTime;
+	}
+
+	/**
+	 * Returns the projectiles in each armed enemy's volley by slot.
+	 * @return volley
+	 */
+	public byte[] getVolley() {
+		return volley;
+	}
+
+	/**
+	 * Returns the health each charging enemy's thresholds are
+	 * fractions of by slot.
+	 * @return baseHealth
+	 */
+	public float[] getBaseHealth() {
+		return baseHealth;
+	}
+
+	/**
+	 * Returns the difficulty each charging enemy's speeds scale with
+	 * by slot.
+	 * @return multiplier
+	 */
+	public float[] getMultiplier() {
+		return multiplier;
+	}
+
+	/**
+	 * Returns the time since each charging enemy's last charge ended
+	 * by slot.
+	 * @return chargeTime
+	 */
+	public float[] getChargeTime() {
+		return chargeTime;
+	}
+
+	/**
+	 * Returns the time since each charging enemy stopped to charge by
+	 * slot.
+	 * @return windup
+	 */
+	public float[] getWindup() {
+		return windup;
+	}
+
+	/**
+	 * Returns the charge state of each charging enemy by slot.
+	 * @return chargeState
+	 */
+	public byte[] getChargeState() {
+		return chargeState;
+	}
+}
@@ -0,0 +1,21 @@
+package com.mygdx.game; 
+
+/**
+ * Kinds of physical body in the game world. Each Box2D body carries
+ * its type as user data so that rendering and cleanup can dispatch
+ * with a single switch instead of comparing strings.
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public enum EntityType {
+	PLAYER,
+	PLAYER_PROJECTILE,
+	ENEMY_PROJECTILE,
+	SWARMER,
+	SPITTER,
+	DEMON,
+	WALL,
+	/** A body queued for destruction at the end of the tick. */
+	DELETABLE,
+	/** A pooled projectile whose body is parked and inactive. */
+	POOLED
+}
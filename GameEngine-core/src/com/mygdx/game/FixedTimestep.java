@@ -0,0 +1,102 @@
+package com.mygdx.game;
+
+/**
+ * FixedTimestep class converts variable frame times into a whole
+ * number of fixed-length simulation ticks. Frame time is accumulated
+ * and consumed in steps of 1 / tickRate seconds, so gameplay runs at
+ * the same speed regardless of the monitor's refresh rate. The number
+ * of ticks per frame is capped so that a stalled frame cannot cause an
+ * ever growing backlog of simulation work.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class FixedTimestep {
+
+	/** Simulated seconds per tick. */
+	private final float step;
+
+	/** Most ticks that may run within a single frame. */
+	private final int maxSteps;
+
+	/** Real time that has not yet been consumed by a tick. */
+	private float accumulator;
+
+	/** Total real time discarded because of the catch-up cap. */
+	private float droppedTime;
+
+	/**
+	 *
+	 * @param tickRate simulation ticks per second
+	 * @param maxSteps most ticks to run per frame before dropping time
+	 */
+	public FixedTimestep(final float tickRate, final int maxSteps) {
+		if (tickRate <= 0 || maxSteps <= 0) {
+			throw new IllegalArgumentException(
+					"tickRate and maxSteps must be positive");
+		}
+		this.step = 1 / tickRate;
+		this.maxSteps = maxSteps;
+	}
+
+	/**
+	 * Adds a frame's worth of real time and returns how many fixed ticks
+	 * should be simulated this frame. Time beyond the catch-up cap is
+	 * discarded, keeping only the fraction of a tick left over.
+	 * @param frameTime real time since the last frame in seconds
+	 * @return number of ticks to run
+	 */
+	public int advance(final float frameTime) {
+		accumulator += frameTime;
+		int ticks = (int) (accumulator / step);
+		if (ticks > maxSteps) {
+			ticks = maxSteps;
+		}
+		accumulator -= ticks * step;
+		if (accumulator >= step) {
+			float remainder = accumulator % step;
+			droppedTime += accumulator - remainder;
+			accumulator = remainder;
+		}
+		return ticks;
+	}
+
+	/**
+	 * Returns how far between the previous and the next tick the
+	 * current frame lies, used to interpolate drawn positions.
+	 * @return blend factor in [0, 1)
+	 */
+	public float getAlpha() {
+		return accumulator / step;
+	}
+
+	/**
+	 * Returns the simulated time of one tick.
+	 * @return step in seconds
+	 */
+	public float getStep() {
+		return step;
+	}
+
+	/**
+	 * Returns the most ticks run per frame.
+	 * @return maxSteps
+	 */
+	public int getMaxSteps() {
+		return maxSteps;
+	}
+
+	/**
+	 * Returns real time thrown away by the catch-up cap.
+	 * @return droppedTime in seconds
+	 */
+	public float getDroppedTime() {
+		return droppedTime;
+	}
+
+	/**
+	 * Discards any accumulated time.
+	 */
+	public void reset() {
+		accumulator = 0;
+	}
+}
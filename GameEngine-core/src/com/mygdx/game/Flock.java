@@ -0,0 +1,180 @@
+package com.mygdx.game;
+
+/**
+ * Flock class spreads swarmers out before they collide, adjusting the
+ * velocities already chosen by steering with the three boids rules:
+ * separation from close neighbors, alignment with their heading and a
+ * weak cohesion towards their center. Neighbors are found through the
+ * spatial index the enemy manager already rebuilds every tick, by the
+ * store slots it is tagged with, so each swarmer only looks at the few
+ * entities in the cells around it. At most a fixed number of neighbors
+ * are considered, which bounds the cost inside a packed swarm, where
+ * a few neighbors already steer as well as all of them.
+ *
+ * All adjustments are computed from the steered velocities before any
+ * is applied, so the result does not depend on slot order.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class Flock {
+
+	/** Distance within which swarmers count as neighbors. */
+	private final float radius;
+
+	/** Distance within which neighbors push each other apart. */
+	private final float separation;
+
+	/** Strength of separation, as a fraction of max velocity. */
+	private final float separationWeight;
+
+	/** Strength of alignment with the neighbors' velocity. */
+	private final float alignmentWeight;
+
+	/** Strength of cohesion, as a fraction of max velocity. */
+	private final float cohesionWeight;
+
+	/** Slots found near the swarmer being adjusted, itself included. */
+	private final int[] nearby;
+
+	/** Horizontal adjustment of each slot. */
+	private float[] adjustX;
+
+	/** Vertical adjustment of each slot. */
+	private float[] adjustY;
+
+	/**
+	 *
+	 * @param radius distance within which swarmers count as neighbors
+	 * @param separation distance within which neighbors push apart
+	 * @param separationWeight strength of separation
+	 * @param alignmentWeight strength of alignment
+	 * @param cohesionWeight strength of cohesion
+	 * @param maxNeighbors most neighbors considered per swarmer
+	 */
+	public Flock(final float radius, final float separation,
+			final float separationWeight, final float alignmentWeight,
+			final float cohesionWeight, final int maxNeighbors) {
+		this.radius = radius;
+		this.separation = separation;
+		this.separationWeight = separationWeight;
+		this.alignmentWeight = alignmentWeight;
+		this.cohesionWeight = cohesionWeight;
+		nearby = new int[maxNeighbors + 1];
+		adjustX = new float[64];
+		adjustY = new float[64];
+	}
+
+	/**
+	 * Adjusts the steered velocity of every enemy in the store that
+	 * flocks and is not recovering from a push, keeping it within max
+	 * velocity. Only enemies that flock count as neighbors.
+	 * @param store enemy store, already steered this tick
+	 * @param index index of every live enemy at its position this tick,
+	 * tagged with their slots
+	 */
+	public void apply(final EnemyStore store, final SpatialHash index) {
+		int size = store.size();
+		if (adjustX.length < size) {
+			int capacity = Math.max(size, adjustX.length * 2);
+			adjustX = new float[capacity];
+			adjustY = new float[capacity];
+		}
+		int[] components = store.getComponents();
+		float[] pushTime = store.getPushTime();
+		for (int i = 0; i < size; i++) {
+			if ((components[i] & EnemyStore.FLOCKS) != 0
+					&& pushTime[i] > EnemyStore.PUSH_RECOVERY) {
+				adjust(store, index, i);
+			} else {
+				adjustX[i] = 0;
+				adjustY[i] = 0;
+			}
+		}
+		float[] vx = store.getVelocityX();
+		float[] vy = store.getVelocityY();
+		float[] maxVelocity = store.getMaxVelocity();
+		for (int i = 0; i < size; i++) {
+			if (adjustX[i] == 0 && adjustY[i] == 0) {
+				continue;
+			}
+			float x = vx[i] + adjustX[i];
+			float y = vy[i] + adjustY[i];
+			float max = maxVelocity[i];
+			float len2 = x * x + y * y;
+			if (len2 > max * max) {
+				float scale = max / (float) Math.sqrt(len2);
+				x *= scale;
+				y *= scale;
+			}
+			vx[i] = x;
+			vy[i] = y;
+		}
+	}
+
+	/**
+	 * Computes a swarmer's adjustment from the swarmers within the
+	 * radius around it.
+	 * @param store enemy store
+	 * @param index index of every live enemy, tagged with their slots
+	 * @param i slot
+	 */
+	private void adjust(final EnemyStore store, final SpatialHash index, final int i) {
+		int[] components = store.getComponents();
+		float[] x = store.getX();
+		float[] y = store.getY();
+		float[] vx = store.getVelocityX();
+		float[] vy = store.getVelocityY();
+		float px = x[i];
+		float py = y[i];
+		float sepX = 0, sepY = 0, sumVX = 0, sumVY = 0, sumX = 0, sumY = 0;
+		int neighbors = 0;
+		float radius2 = radius * radius;
+		float separation2 = separation * separation;
+		int found = index.query(px, py, radius, nearby);
+		for (int k = 0; k < found; k++) {
+			int j = nearby[k];
+			if (j == i || (components[j] & EnemyStore.FLOCKS) == 0) {
+				continue;
+			}
+			float dx = px - x[j];
+			float dy = py - y[j];
+			float d2 = dx * dx + dy * dy;
+			if (d2 >= radius2) {
+				continue;
+			}
+			neighbors++;
+			sumVX += vx[j];
+			sumVY += vy[j];
+			sumX += x[j];
+			sumY += y[j];
+			if (d2 < separation2 && d2 > 0) {
+				sepX += dx / d2;
+				sepY += dy / d2;
+			}
+		}
+		if (neighbors == 0) {
+			adjustX[i] = 0;
+			adjustY[i] = 0;
+			return;
+		}
+		float max = store.getMaxVelocity()[i];
+		float ax = 0;
+		float ay = 0;
+		float sep = (float) Math.sqrt(sepX * sepX + sepY * sepY);
+		if (sep > 0) {
+			ax += sepX / sep * max * separationWeight;
+			ay += sepY / sep * max * separationWeight;
+		}
+		ax += (sumVX / neighbors - vx[i]) * alignmentWeight;
+		ay += (sumVY / neighbors - vy[i]) * alignmentWeight;
+		float cx = sumX / neighbors - px;
+		float cy = sumY / neighbors - py;
+		float toCenter = (float) Math.sqrt(cx * cx + cy * cy);
+		if (toCenter > 0) {
+			ax += cx / toCenter * max * cohesionWeight;
+			ay += cy / toCenter * max * cohesionWeight;
+		}
+		adjustX[i] = ax;
+		adjustY[i] = ay;
+	}
+}
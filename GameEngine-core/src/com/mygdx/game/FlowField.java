@@ -0,0 +1,317 @@
+package com.mygdx.game;
+
+import java.util.Arrays;
+
+/**
+ * FlowField class is a grid over the arena in which every cell holds
+ * the direction of the shortest open path to a target, normally the
+ * player. The field is searched breadth first outward from the
+ * target's cell, and the search restarts only when the target moves
+ * to another cell or a cell is blocked or unblocked.
+ *
+ * The search is lazy: it only runs as far as the farthest cell
+ * resolved since it restarted, and only resolved cells are given a
+ * direction, so a restart costs in proportion to the area the enemies
+ * occupy rather than to the whole arena. It also never goes further
+ * than a range of steps from the target. Cells must be resolved before
+ * their direction is read; steering an enemy is then one lookup of its
+ * cell, whatever the number of enemies.
+ *
+ * Blocked cells are never entered, and no direction cuts the corner
+ * of a blocked cell. The target's own cell, cells out of range and
+ * cells with no path to the target have no direction.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class FlowField {
+
+	/** Distance of a cell not reached by the search. */
+	private static final int UNREACHED = Integer.MAX_VALUE;
+
+	/** Component of a unit diagonal. */
+	private static final float DIAGONAL = (float) Math.sqrt(0.5);
+
+	/** Width and height of a cell in meters. */
+	private final float cellSize;
+
+	/** Number of cell columns. */
+	private final int cols;
+
+	/** Number of cell rows. */
+	private final int rows;
+
+	/** Most steps from the target the search goes. */
+	private final int range;
+
+	/** True for each cell that cannot be entered. */
+	private final boolean[] blocked;
+
+	/** Steps from each cell to the target's cell. */
+	private final int[] distance;
+
+	/** Horizontal component of each cell's direction. */
+	private final float[] dirX;
+
+	/** Vertical component of each cell's direction. */
+	private final float[] dirY;
+
+	/** Search each cell was last resolved in, compared with builds. */
+	private final int[] resolvedIn;
+
+	/** Every cell reached by the search, in the order reached. */
+	private final int[] queue;
+
+	/** Number of cells in the queue already expanded. */
+	private int head;
+
+	/** Number of cells reached. */
+	private int tail;
+
+	/** Cell the field currently leads to, -1 before the first build. */
+	private int targetCell = -1;
+
+	/** True if a cell was blocked or unblocked since the last build. */
+	private boolean dirty;
+
+	/** Number of times the search restarted. */
+	private int builds;
+
+	/**
+	 * Creates a field whose search may cover the whole arena.
+	 * @param width width of the arena in meters
+	 * @param height height of the arena in meters
+	 * @param cellSize width and height of a cell in meters
+	 */
+	public FlowField(final float width, final float height, final float cellSize) {
+		this(width, height, cellSize, UNREACHED);
+	}
+
+	/**
+	 *
+	 * @param width width of the arena in meters
+	 * @param height height of the arena in meters
+	 * @param cellSize width and height of a cell in meters
+	 * @param range most steps from the target the search goes
+	 */
+	public FlowField(final float width, final float height, final float cellSize,
+			final int range) {
+		this.cellSize = cellSize;
+		this.range = range;
+		cols = Math.max(1, (int) Math.ceil(width / cellSize));
+		rows = Math.max(1, (int) Math.ceil(height / cellSize));
+		blocked = new boolean[cols * rows];
+		distance = new int[cols * rows];
+		dirX = new float[cols * rows];
+		dirY = new float[cols * rows];
+		resolvedIn = new int[cols * rows];
+		queue = new int[cols * rows];
+		Arrays.fill(distance, UNREACHED);
+	}
+
+	/**
+	 * Points the field at a target, restarting the search only if the
+	 * target has moved to another cell or the obstacles have changed.
+	 * Every cell must be resolved again after a restart.
+	 * @param x target's x coordinate
+	 * @param y target's y coordinate
+	 * @return true if the search restarted
+	 */
+	public boolean update(final float x, final float y) {
+		int cell = cellOf(x, y);
+		if (cell == targetCell && !dirty) {
+			return false;
+		}
+		targetCell = cell;
+		dirty = false;
+		restart();
+		return true;
+	}
+
+	/**
+	 * Gives the cell containing a point its direction, searching
+	 * further out from the target, up to the range, if the cell has not
+	 * been reached yet.
+	 * Not safe to call while other threads read the field.
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 * @return index of the cell, whose direction may now be read
+	 */
+	public int resolve(final float x, final float y) {
+		int cell = cellOf(x, y);
+		if (resolvedIn[cell] != builds) {
+			while (distance[cell] == UNREACHED && head < tail
+					&& distance[queue[head]] < range) {
+				expand(queue[head++]);
+			}
+			if (distance[cell] != UNREACHED) {
+				point(cell);
+			}
+			resolvedIn[cell] = builds;
+		}
+		return cell;
+	}
+
+	/**
+	 * Marks the cell containing a point as blocked or open. Takes
+	 * effect on the next update.
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 * @param block true to block the cell
+	 */
+	public void setBlocked(final float x, final float y, final boolean block) {
+		int cell = cellOf(x, y);
+		if (blocked[cell] != block) {
+			blocked[cell] = block;
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Forgets the previous search, clearing only the cells it reached,
+	 * and starts a new one from the target's cell.
+	 */
+	private void restart() {
+		builds++;
+		for (int i = 0; i < tail; i++) {
+			int cell = queue[i];
+			distance[cell] = UNREACHED;
+			dirX[cell] = 0;
+			dirY[cell] = 0;
+		}
+		head = 0;
+		tail = 0;
+		if (!blocked[targetCell]) {
+			distance[targetCell] = 0;
+			queue[tail++] = targetCell;
+		}
+	}
+
+	/**
+	 * Reaches the open, unreached neighbors of a cell.
+	 * @param cell cell index
+	 */
+	private void expand(final int cell) {
+		int col = cell % cols;
+		int d = distance[cell] + 1;
+		if (col > 0 && visit(cell - 1, d)) {
+			queue[tail++] = cell - 1;
+		}
+		if (col < cols - 1 && visit(cell + 1, d)) {
+			queue[tail++] = cell + 1;
+		}
+		if (cell >= cols && visit(cell - cols, d)) {
+			queue[tail++] = cell - cols;
+		}
+		if (cell < cols * (rows - 1) && visit(cell + cols, d)) {
+			queue[tail++] = cell + cols;
+		}
+	}
+
+	/**
+	 * Gives an open, unreached cell its distance.
+	 * @param cell cell index
+	 * @param d distance to the target
+	 * @return true if the cell was reached for the first time
+	 */
+	private boolean visit(final int cell, final int d) {
+		if (blocked[cell] || distance[cell] != UNREACHED) {
+			return false;
+		}
+		distance[cell] = d;
+		return true;
+	}
+
+	/**
+	 * Points a cell at whichever of its eight neighbors is closest to
+	 * the target, skipping diagonals that would clip a blocked cell.
+	 * Every cell closer to the target than this one has been reached,
+	 * since the search reaches cells in order of distance.
+	 * @param cell cell index
+	 */
+	private void point(final int cell) {
+		if (cell == targetCell) {
+			return;
+		}
+		int col = cell % cols;
+		int row = cell / cols;
+		int best = distance[cell];
+		int bestX = 0;
+		int bestY = 0;
+		for (int dy = -1; dy <= 1; dy++) {
+			for (int dx = -1; dx <= 1; dx++) {
+				int c = col + dx;
+				int r = row + dy;
+				if ((dx == 0 && dy == 0) || c < 0 || c >= cols || r < 0 || r >= rows) {
+					continue;
+				}
+				if (dx != 0 && dy != 0
+						&& (blocked[row * cols + c] || blocked[r * cols + col])) {
+					continue;
+				}
+				int d = distance[r * cols + c];
+				if (d < best) {
+					best = d;
+					bestX = dx;
+					bestY = dy;
+				}
+			}
+		}
+		if (bestX != 0 && bestY != 0) {
+			dirX[cell] = bestX * DIAGONAL;
+			dirY[cell] = bestY * DIAGONAL;
+		} else {
+			dirX[cell] = bestX;
+			dirY[cell] = bestY;
+		}
+	}
+
+	/**
+	 * Returns the index of the cell containing a point. Points outside
+	 * the arena are clamped into the border cells.
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 * @return cell index
+	 */
+	public int cellOf(final float x, final float y) {
+		int col = Math.min(cols - 1, Math.max(0, (int) (x / cellSize)));
+		int row = Math.min(rows - 1, Math.max(0, (int) (y / cellSize)));
+		return row * cols + col;
+	}
+
+	/**
+	 * Returns the horizontal direction of each cell, indexed by cellOf.
+	 * Only cells resolved since the last restart are set.
+	 * @return dirX
+	 */
+	public float[] getDirectionX() {
+		return dirX;
+	}
+
+	/**
+	 * Returns the vertical direction of each cell, indexed by cellOf.
+	 * Only cells resolved since the last restart are set.
+	 * @return dirY
+	 */
+	public float[] getDirectionY() {
+		return dirY;
+	}
+
+	/**
+	 * Returns true if a point lies in the target's cell, where the
+	 * field has no direction.
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 * @return true if in the target's cell
+	 */
+	public boolean atTarget(final float x, final float y) {
+		return cellOf(x, y) == targetCell;
+	}
+
+	/**
+	 * Returns the number of times the search restarted.
+	 * @return builds
+	 */
+	public int getBuilds() {
+		return builds;
+	}
+}
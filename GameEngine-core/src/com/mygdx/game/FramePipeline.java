@@ -0,0 +1,142 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * FramePipeline class holds the ordered stages that make up a frame.
+ * Tick stages (input, AI, physics, contacts, cleanup) run exactly once
+ * per fixed simulation tick, while frame stages (rendering) run once
+ * per displayed frame. Keeping the stages in explicit lists means each
+ * one runs exactly once and they can be timed or reordered in one place.
+ * While an enabled FrameProfiler is set, each stage's run is timed.
+ * Every stage's start and end is reported to the simulation's Telemetry.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class FramePipeline {
+
+	/** Stages run once per simulation tick, in order. */
+	private final Array<PipelineStage> tickStages;
+
+	/** Stages run once per rendered frame, in order. */
+	private final Array<PipelineStage> frameStages;
+
+	/** Times the stages while enabled, may be null. */
+	private FrameProfiler profiler;
+
+	/** Told when each stage begins and ends. */
+	private final Telemetry telemetry;
+
+	/**
+	 *
+	 * @param telemetry told when each stage begins and ends
+	 */
+	public FramePipeline(final Telemetry telemetry) {
+		tickStages = new Array<PipelineStage>();
+		frameStages = new Array<PipelineStage>();
+		this.telemetry = telemetry;
+	}
+
+	/**
+	 * Appends a stage to the per-tick list.
+	 * @param stage stage
+	 * @return this pipeline
+	 */
+	public FramePipeline addTickStage(final PipelineStage stage) {
+		checkUnique(stage);
+		tickStages.add(stage);
+		return this;
+	}
+
+	/**
+	 * Appends a stage to the per-frame list.
+	 * @param stage stage
+	 * @return this pipeline
+	 */
+	public FramePipeline addFrameStage(final PipelineStage stage) {
+		checkUnique(stage);
+		frameStages.add(stage);
+		return this;
+	}
+
+	/**
+	 * Runs every tick stage once.
+	 * @param step simulated seconds
+	 */
+	public void tick(final float step) {
+		run(tickStages, step);
+	}
+
+	/**
+	 * Runs every frame stage once.
+	 * @param delta real seconds since the last frame
+	 */
+	public void frame(final float delta) {
+		run(frameStages, delta);
+	}
+
+	/**
+	 * Runs each stage of a list once, timing them if profiling.
+	 * @param stages stages to run
+	 * @param delta seconds passed to each stage
+	 */
+	private void run(final Array<PipelineStage> stages, final float delta) {
+		boolean timed = profiler != null && profiler.isEnabled();
+		for (int i = 0; i < stages.size; i++) {
+			PipelineStage stage = stages.get(i);
+			telemetry.stageBegin(stage);
+			if (timed) {
+				long start = System.nanoTime();
+				stage.run(delta);
+				profiler.record(stage, System.nanoTime() - start);
+			} else {
+				stage.run(delta);
+			}
+			telemetry.stageEnd(stage);
+		}
+	}
+
+	/**
+	 * Sets the profiler timing the stages, or null for none.
+	 * @param profiler profiler
+	 */
+	public void setProfiler(final FrameProfiler profiler) {
+		this.profiler = profiler;
+	}
+
+	/**
+	 * Returns the per-tick stages in run order.
+	 * @return tickStages
+	 */
+	public Array<PipelineStage> getTickStages() {
+		return tickStages;
+	}
+
+	/**
+	 * Returns the per-frame stages in run order.
+	 * @return frameStages
+	 */
+	public Array<PipelineStage> getFrameStages() {
+		return frameStages;
+	}
+
+	/**
+	 * Rejects a stage whose name is already registered, which would
+	 * otherwise run the same work twice.
+	 * @param stage stage
+	 */
+	private void checkUnique(final PipelineStage stage) {
+		for (PipelineStage s : tickStages) {
+			if (s.getName().equals(stage.getName())) {
+				throw new IllegalArgumentException(
+						"Stage already registered: " + stage.getName());
+			}
+		}
+		for (PipelineStage s : frameStages) {
+			if (s.getName().equals(stage.getName())) {
+				throw new IllegalArgumentException(
+						"Stage already registered: " + stage.getName());
+			}
+		}
+	}
+}
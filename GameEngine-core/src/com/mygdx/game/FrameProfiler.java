@@ -0,0 +1,248 @@
+package com.mygdx.game;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * FrameProfiler class keeps the most recent run times of each pipeline
+ * stage and reports their percentiles, along with counts of the bodies
+ * in the world by entity type. A FramePipeline only reads the clock
+ * while its profiler is enabled, so a disabled profiler costs one
+ * check per tick.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class FrameProfiler {
+
+	/** Samples kept per stage by default, ten seconds of ticks. */
+	public static final int DEFAULT_WINDOW = 600;
+
+	/** Samples kept per stage. */
+	private final int window;
+
+	/** True while stages are being timed. */
+	private boolean enabled;
+
+	/** Timings of each stage, in the order first recorded. */
+	private final Array<Timings> stages;
+
+	/** Timings of each stage by stage. */
+	private final ObjectMap<PipelineStage, Timings> byStage;
+
+	/** Bodies of each entity type, by type ordinal. */
+	private final int[] typeCounts;
+
+	/** Bodies in the world when last counted. */
+	private int bodyCount;
+
+	/** Contacts in the world when last counted. */
+	private int contactCount;
+
+	/** Scratch array the world's bodies are copied into. */
+	private final Array<Body> bodies;
+
+	/**
+	 *
+	 * @param window samples kept per stage
+	 */
+	public FrameProfiler(final int window) {
+		this.window = window;
+		stages = new Array<Timings>();
+		byStage = new ObjectMap<PipelineStage, Timings>();
+		typeCounts = new int[EntityType.values().length];
+		bodies = new Array<Body>();
+	}
+
+	/**
+	 * Records one run of a stage.
+	 * @param stage stage run
+	 * @param nanos time the stage took
+	 */
+	public void record(final PipelineStage stage, final long nanos) {
+		Timings t = byStage.get(stage);
+		if (t == null) {
+			t = new Timings(stage.getName(), window);
+			byStage.put(stage, t);
+			stages.add(t);
+		}
+		t.add(nanos);
+	}
+
+	/**
+	 * Counts the world's bodies by entity type and its contacts.
+	 * @param world world to count
+	 */
+	public void count(final World world) {
+		Arrays.fill(typeCounts, 0);
+		world.getBodies(bodies);
+		for (int i = 0; i < bodies.size; i++) {
+			Object type = bodies.get(i).getUserData();
+			if (type instanceof EntityType) {
+				typeCounts[((EntityType) type).ordinal()]++;
+			}
+		}
+		bodyCount = bodies.size;
+		contactCount = world.getContactCount();
+	}
+
+	/**
+	 * Starts or stops timing. Stopping clears the samples so that
+	 * stale timings are not mixed with new ones.
+	 * @param enabled true to time stages
+	 */
+	public void setEnabled(final boolean enabled) {
+		if (!enabled) {
+			for (int i = 0; i < stages.size; i++) {
+				stages.get(i).clear();
+			}
+		}
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns true while stages are being timed.
+	 * @return enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the timings of each stage recorded so far.
+	 * @return stages
+	 */
+	public Array<Timings> getStages() {
+		return stages;
+	}
+
+	/**
+	 * Returns the number of bodies of a type when last counted.
+	 * @param type entity type
+	 * @return bodies of that type
+	 */
+	public int getCount(final EntityType type) {
+		return typeCounts[type.ordinal()];
+	}
+
+	/**
+	 * Returns the number of bodies when last counted.
+	 * @return bodyCount
+	 */
+	public int getBodyCount() {
+		return bodyCount;
+	}
+
+	/**
+	 * Returns the number of contacts when last counted.
+	 * @return contactCount
+	 */
+	public int getContactCount() {
+		return contactCount;
+	}
+
+	/**
+	 * The most recent run times of one stage, kept in a ring buffer.
+	 */
+	public static class Timings {
+
+		/** Name of the stage timed. */
+		private final String name;
+
+		/** Most recent samples in nanoseconds, oldest overwritten first. */
+		private final long[] samples;
+
+		/** Samples sorted when percentiles are asked for. */
+		private final long[] sorted;
+
+		/** Index the next sample is written to. */
+		private int next;
+
+		/** Number of samples held, up to the window. */
+		private int size;
+
+		/** True if samples were added since the last sort. */
+		private boolean dirty;
+
+		/**
+		 *
+		 * @param name stage name
+		 * @param window samples kept
+		 */
+		Timings(final String name, final int window) {
+			this.name = name;
+			samples = new long[window];
+			sorted = new long[window];
+		}
+
+		/**
+		 * Adds a sample, replacing the oldest once the window is full.
+		 * @param nanos time the stage took
+		 */
+		void add(final long nanos) {
+			samples[next] = nanos;
+			next = (next + 1) % samples.length;
+			if (size < samples.length) {
+				size++;
+			}
+			dirty = true;
+		}
+
+		/**
+		 * Removes every sample.
+		 */
+		void clear() {
+			next = 0;
+			size = 0;
+		}
+
+		/**
+		 * Returns the sample at or below which the given share of
+		 * samples fall, by nearest rank. Zero if there are none.
+		 * @param p share between 0 and 1, for example 0.95
+		 * @return percentile in nanoseconds
+		 */
+		public long percentile(final float p) {
+			if (size == 0) {
+				return 0;
+			}
+			if (dirty) {
+				System.arraycopy(samples, 0, sorted, 0, size);
+				Arrays.sort(sorted, 0, size);
+				dirty = false;
+			}
+			int rank = (int) Math.ceil(p * size) - 1;
+			return sorted[Math.max(0, Math.min(size - 1, rank))];
+		}
+
+		/**
+		 * Returns the latest sample, zero if there are none.
+		 * @return nanoseconds
+		 */
+		public long getLast() {
+			if (size == 0) {
+				return 0;
+			}
+			return samples[(next - 1 + samples.length) % samples.length];
+		}
+
+		/**
+		 * Returns the number of samples held.
+		 * @return size
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Returns the stage name.
+		 * @return name
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -7,22 +7,19 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
-import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
 
 /**
  * GameEngine class is the core class that updates the game state 
- * graphically and physically every frame. It populates the window 
- * with a world, its initial Box2D physics objects, and its 
- * camera. It also manages user input.
+ * graphically and physically every frame. It runs a Simulation for
+ * as many ticks as each frame allows, draws it through a camera
+ * following the player, and plays its sounds.
  * 
  * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
  */
@@ -31,6 +28,30 @@ public class GameEngine extends ScreenAdapter {
 	/** Window to viewport dimension ratio. */
 	public static final int SCALE = 6;
 	
+	/** Simulation ticks per second, independent of the frame rate. */
+	public static final float TICK_RATE = 60f;
+	
+	/** Most simulation ticks run in one frame before time is dropped. */
+	public static final int MAX_TICKS_PER_FRAME = 5;
+	
+	/** Player projectile bodies created up front. */
+	public static final int PLAYER_PROJECTILE_POOL_SIZE = 64;
+	
+	/** Enemy projectile bodies created up front. */
+	public static final int ENEMY_PROJECTILE_POOL_SIZE = 64;
+	
+	/** Speed of player projectiles. */
+	public static final int PLAYER_PROJECTILE_SPEED = 150;
+	
+	/** Speed of enemy projectiles. */
+	public static final int ENEMY_PROJECTILE_SPEED = 170;
+	
+	/** Meters beyond the view a body may be and still be drawn. */
+	private static final float CULL_MARGIN = 1f;
+	
+	/** Width and height of the arena in screens. */
+	public static final int ARENA_SCREENS = 4;
+	
 	/**  Y value in pixels.*/
 	private static int windowHeight;
 	
@@ -64,53 +85,44 @@ public class GameEngine extends ScreenAdapter {
 	/**   */
 	private boolean flashRed;
 	
-	/**  Box2D physical object management plane.*/
-	private static World world;
+	/**  Physical state of the game, advanced one tick at a time.*/
+	private Simulation sim;
 	
-	/**  A camera with an orthographic projection. */
-	private OrthographicCamera camera;
+	/**  Schedules fixed simulation ticks from variable frame times.*/
+	private FixedTimestep timestep;
+	
+	/**  Blend factor between the last two ticks used when drawing.*/
+	private float renderAlpha;
 	
-	/**  Collects shape objects to be updated together.*/
-	private ShapeRenderer sr;
+	/**  Positions of the bodies before the latest tick.*/
+	private PreviousPositions previous;
 	
-	/**  X and Y physical wall shapes.*/
-	private PolygonShape xWallBox, wallBox;
+	/**  Position a body is drawn at.*/
+	private Vector2 drawn;
 	
-	/**  X and Y physical wall bodies.*/
-	private Body wall, xWall;
+	/**  Ordered stages run each tick and each frame.*/
+	private FramePipeline pipeline;
 	
-	/**  Characteristics of Y wall.*/
-	private BodyDef wallDef;
+	/**  A camera with an orthographic projection, following the player. */
+	private OrthographicCamera camera;
 	
-	/**  Characteristics of X wall.*/
-	private BodyDef xWallDef;
+	/**  Projection of the heads-up display, fixed to the screen. */
+	private Matrix4 hudProjection;
 	
-	/**  Attaches a physical body to its qualities.*/
-	private Fixture fixture;
+	/**  Draws every body's circle in as few draw calls as possible.*/
+	private CircleBatch circles;
 	
 	/**  Player object.*/
 	private Player player;
 	
-	/**   */
-	private Listener listener;
-	
 	/**  All bodies detected in the world.*/
 	private Array<Body> bodies;
 	
-	/**  X position of the Player.*/
-	private float x;
+	/**  Arena width in meters.*/
+	private int arenaWidth;
 	
-	/**  Y position of the Player.*/
-	private float y;
-	
-	/**  Time counter before a shot is fired.*/
-	private float shotAccumulator;
-	
-	/**  Time counter before shotgun is fired.*/
-	private float shotgunAccumulator;
-	
-	/**   */
-	private EnemyManager eMan;
+	/**  Arena height in meters.*/
+	private int arenaHeight;
 	
 	/**   */
 	private Texture healthBar;
@@ -135,6 +147,12 @@ public class GameEngine extends ScreenAdapter {
 	/**   */
 	private SpriteBatch batch;
 	
+	/**  Times each pipeline stage while the overlay is shown.*/
+	private FrameProfiler profiler;
+	
+	/**  Draws the profiler's results, toggled with F3.*/
+	private ProfilerOverlay overlay;
+	
 	/**
 	 * Called once at creation to set up initial graphical objects 
 	 * and create constant physical objects.
@@ -142,38 +160,80 @@ public class GameEngine extends ScreenAdapter {
 	 */
 	public GameEngine(final ScreenManager screenManager) {
 		this.sM = screenManager;
-		sr = new ShapeRenderer();
+		circles = new CircleBatch();
 		batch = new SpriteBatch();
 
-		world = new World(new Vector2(0, 0), true);
+		timestep = new FixedTimestep(TICK_RATE, MAX_TICKS_PER_FRAME);
 		viewportHeight = (int) scale(windowHeight);
 		viewportWidth = (int) scale(windowWidth);
+		arenaHeight = viewportHeight * ARENA_SCREENS;
+		arenaWidth = viewportWidth * ARENA_SCREENS;
 		healthBar = new Texture("blank.png");
 		//vignette = new Texture("vignette.png");
 		background = new Texture("3dgrid.jpg");
+		background.setWrap(TextureWrap.Repeat, TextureWrap.Repeat);
 		song = Gdx.audio.newSound(Gdx.files.internal("andreonate.mp3"));
 		song.setLooping(song.play(), true);
 		shot = Gdx.audio.newSound(Gdx.files.internal("kick.wav"));
 		
 		camera = new OrthographicCamera();
 		camera.setToOrtho(false, scale(windowWidth), scale(windowHeight));
-		camera.position.set(scale(windowWidth) / 2, scale(windowHeight) / 2, 0);
-		camera.update();
+		hudProjection = new Matrix4().setToOrtho2D(0, 0, viewportWidth, viewportHeight);
 		
-		player = new Player();
-		eMan = new EnemyManager(getViewWidth(), getViewHeight(), player);
-		listener =  new Listener(this);
-		world.setContactListener(listener);
+		sim = new Simulation(arenaWidth, arenaHeight, new KeyboardControls(camera),
+				sM.getTelemetry()) {
+			@Override
+			protected void onShot(final boolean shotgun) {
+				shot.play(shotgun ? 0.5f : 0.3f); // volume
+			}
+			
+			@Override
+			protected void onPlayerHit() {
+				flashRed();
+			}
+		};
+		player = sim.getPlayer();
 		bodies = new Array<Body>();
-		createBorders();
+		previous = new PreviousPositions();
+		drawn = new Vector2();
+		pipeline = sim.getPipeline();
+		profiler = new FrameProfiler(FrameProfiler.DEFAULT_WINDOW);
+		overlay = new ProfilerOverlay(profiler);
+		pipeline.setProfiler(profiler);
+		buildPipeline();
+	}
+	
+	/**
+	 * Registers rendering to run once per frame, after the
+	 * simulation's tick stages: the bodies, then the background and
+	 * health bar, then the profiler overlay.
+	 */
+	private void buildPipeline() {
+		pipeline.addFrameStage(new PipelineStage("bodies") {
+			@Override
+			public void run(final float delta) {
+				updateGraphics();
+			}
+		});
+		pipeline.addFrameStage(new PipelineStage("hud") {
+			@Override
+			public void run(final float delta) {
+				drawHud();
+			}
+		});
+		pipeline.addFrameStage(new PipelineStage("overlay") {
+			@Override
+			public void run(final float delta) {
+				overlay.draw(batch, sim);
+			}
+		});
 	}
 
 	/**
 	 * This method updates constantly. 
-	 * Updates graphical state.
-	 * Updates physical state.
-	 * Listens for user input.
-	 * Performs a physics step of the world.
+	 * Runs as many fixed simulation ticks as the elapsed frame
+	 * time allows, then updates graphical state once, interpolated
+	 * between the last two ticks.
 	 * 
 	 * @param delta deltaTime
 	 */
@@ -181,14 +241,22 @@ public class GameEngine extends ScreenAdapter {
 	public void render(final float delta) {
 		switch (state) {
 		case RUN:
-			x = player.getX();
-			y = player.getY();
-			eMan.update(x, y, getDeltaTime());
-
-			checkMovement();
-			checkClick();
-			updateGraphics();
-			world.step(1 / 60f, 6, 2);
+			int ticks = timestep.advance(delta);
+			for (int i = 0; i < ticks && !sim.isOver(); i++) {
+				previous.record(sim.getWorld());
+				sim.tick(timestep.getStep());
+			}
+			if (sim.isOver()) {
+				dead();
+			}
+			if (Gdx.input.isKeyPressed(Input.Keys.ESCAPE)) {
+				pause();
+			}
+			if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+				profiler.setEnabled(!profiler.isEnabled());
+			}
+			renderAlpha = timestep.getAlpha();
+			pipeline.frame(delta);
 			break;
 		case PAUSE:
 			sM.setScreen(new PauseScreen(sM, this));
@@ -199,14 +267,6 @@ public class GameEngine extends ScreenAdapter {
 		}
 	}
 	
-	/**
-	 * Returns Gdx frame time.
-	 * @return difference in time between frames.
-	 */
-	public static float getDeltaTime() {
-		return Gdx.graphics.getDeltaTime();
-	}
-	
 	/**
 	 * 
 	 */
@@ -219,28 +279,41 @@ public class GameEngine extends ScreenAdapter {
 			flashRed = false;
 		}
 		
+		followPlayer();
+		// Render images between begin and end. 
+		circles.begin(camera.combined);
+		drawBodies();
+		circles.end();
+	}
+	
+	/**
+	 * Draws the background over the arena and the health bar.
+	 */
+	private void drawHud() {
 		playerHealth = player.getHealth();
 		float hRatio = playerHealth / 100;
-		// Render images between begin and end. 
-		sr.setProjectionMatrix(camera.combined);
-		sr.begin(ShapeType.Filled);
-		sr.setColor(1, 1 * hRatio, 1 * hRatio, 1); // white to red fade
-		sr.setColor(1, 1, 1, 1);
-		sr.circle(x, y, playerRadius);
-		manageBodies();
-		sr.end();
-		eMan.update(x, y, getDeltaTime());
-		
 		// Render images between batch.begin and batch.end. 
-		
 		batch.begin();
 		batch.setProjectionMatrix(camera.combined);
 		batch.setColor(1, 1, 1, .2f);
-		batch.draw(background, 0, 0, viewportWidth, viewportHeight);
+		batch.draw(background, 0, 0, arenaWidth, arenaHeight, 
+				0, ARENA_SCREENS, ARENA_SCREENS, 0);
+		batch.setProjectionMatrix(hudProjection);
 		batch.setColor(1, 1 * hRatio, 1 * hRatio, .8f);
 		batch.draw(healthBar, 0, 0, viewportWidth * hRatio, 0.5f);
 		batch.end();
-		
+	}
+	
+	/**
+	 * Centers the camera on the player's drawn position, stopping at
+	 * the arena's edges so nothing outside the walls is shown.
+	 */
+	private void followPlayer() {
+		Vector2 pos = previous.interpolate(player.getBody(), renderAlpha, drawn);
+		float halfWidth = Math.min(camera.viewportWidth / 2, arenaWidth / 2f);
+		float halfHeight = Math.min(camera.viewportHeight / 2, arenaHeight / 2f);
+		camera.position.x = MathUtils.clamp(pos.x, halfWidth, arenaWidth - halfWidth);
+		camera.position.y = MathUtils.clamp(pos.y, halfHeight, arenaHeight - halfHeight);
 		camera.update();
 	}
 	
@@ -254,92 +327,31 @@ public class GameEngine extends ScreenAdapter {
 	}
 	
 	/**
-	 * Updates a time accumulator with the time between frames
-	 * and tells Player to fire a projectile if the mouse button
-	 * clicked or held down, or shotgun projectiles if space is 
-	 * pressed. ESC pauses the game.
+	 * Draws each body at its graphical position, interpolated between
+	 * the last two simulation ticks, in the style of its entity type.
+	 * Bodies whose circle lies entirely outside the camera's view are
+	 * skipped.
 	 */
-	private void checkClick() {
-		shotAccumulator += Gdx.graphics.getDeltaTime();
-		shotgunAccumulator += Gdx.graphics.getDeltaTime();
-		if (shotAccumulator >= player.getShotTime()) {
-			if (Gdx.input.isTouched()) {
-			player.fireProjectile(scale(Gdx.input.getX()),
-					scale(Gdx.input.getY()));
-			shot.play(0.3f); // volume
-			shotAccumulator = 0;
-			}
-		}
-		if (shotgunAccumulator >= player.getShotgunTime()) {
-			if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
-			player.fireShotgun(scale(Gdx.input.getX()),
-					scale(Gdx.input.getY()));
-			shot.play(0.5f); // volume
-			shotAccumulator = -1;
-			shotgunAccumulator = 0;
-			}
-		}
-		if (Gdx.input.isKeyPressed(Input.Keys.ESCAPE)) {
-			pause();
-		}
-	}
-	
-	/**
-	 * Retrieves all bodies in the world and bodies to be deleted to delete
-	 * those that match. Also updates each body's graphical position.
-	 */
-	private void manageBodies() {
-		world.getBodies(bodies);
+	private void drawBodies() {
+		float camX = camera.position.x;
+		float camY = camera.position.y;
+		float halfWidth = camera.viewportWidth * camera.zoom / 2;
+		float halfHeight = camera.viewportHeight * camera.zoom / 2;
+		sim.getWorld().getBodies(bodies);
 		for (Body b : bodies) {
-			
-			if (b.getUserData().equals("player")) {
-				if (player.getHealth() <= 0) {
-					dead();
-				}
-			}
-			if (b.getUserData().equals("playerProj")) {
-				sr.setColor(.95f, .95f, .95f, 1);
-				sr.circle(b.getPosition().x, b.getPosition().y, projectileRadius);
+			RenderStyle style = RenderStyle.of((EntityType) b.getUserData());
+			if (style == null) {
+				continue;
 			}
-			if (b.getUserData().equals("enemyProj")) {
-				sr.setColor(1f, .75f, .75f, 1);
-				sr.circle(b.getPosition().x, b.getPosition().y, projectileRadius);
+			Vector2 pos = b.getPosition();
+			float r = style.getRadius();
+			if (Math.abs(pos.x - camX) > halfWidth + r + CULL_MARGIN 
+					|| Math.abs(pos.y - camY) > halfHeight + r + CULL_MARGIN) {
+				continue;
 			}
-			if (b.getUserData().equals("swarmer")) {
-				sr.setColor(1f, .4f, .4f, 1);
-				sr.circle(b.getPosition().x, b.getPosition().y, swarmerRadius);
-			}
-			if (b.getUserData().equals("spitter")) {
-				sr.setColor(1f, .2f, .2f, 1);
-				sr.circle(b.getPosition().x, b.getPosition().y, spitterRadius);
-			}
-			if (b.getUserData().equals("demon")) {
-				sr.setColor(1, 0, 0, 1);
-				sr.circle(b.getPosition().x, b.getPosition().y, demonRadius);
-			}
-			if (b.getUserData().equals("deletable")) {
-				world.destroyBody(b);
-			}
-		}
-	}
-	
-	/**
-	 * Determines which directional keys are pressed, WASD, 
-	 * to update player movement.
-	 */
-	private void checkMovement() {
-		boolean right = false, left = false, up = false, down = false;
-		if (Gdx.input.isKeyPressed(Input.Keys.A)) {
-			left = true;
-		} else if (Gdx.input.isKeyPressed(Input.Keys.D)) {
-			right = true;
+			previous.interpolate(b, renderAlpha, drawn);
+			circles.draw(drawn.x, drawn.y, r, style.getColor());
 		}
-		if (Gdx.input.isKeyPressed(Input.Keys.W)) {
-			up = true;
-		} else if (Gdx.input.isKeyPressed(Input.Keys.S)) {
-			down = true;
-		}
-		player.update(right, left, up, down, getDeltaTime());
 	}
 	
 	/**
@@ -383,67 +395,6 @@ public class GameEngine extends ScreenAdapter {
         camera.viewportWidth = (scale(windowHeight) / height) * width;
 	}
 	
-	/**
-	 * Generates physical boundaries at the edge of the window.
-	 */
-	private void createBorders() {
-		// Floor
-		xWallDef = new BodyDef();
-		
-		xWallDef.position.set(0, 0);
-		
-		xWall = world.createBody(xWallDef);
-		xWall.setUserData("wall");
-		
-		xWallBox = new PolygonShape();
-		xWallBox.setAsBox(camera.viewportWidth, 0.0f);
-		fixture = xWall.createFixture(xWallBox, 0.0f);
-		fixture.setUserData(this);
-		
-		// Ceiling
-		xWallDef.position.set(0, camera.viewportHeight);
-		xWall = world.createBody(xWallDef);
-		xWall.setUserData("wall");
-		xWallBox.setAsBox(camera.viewportWidth, 0.0f);
-		fixture = xWall.createFixture(xWallBox, 0.0f);
-		fixture.setUserData(this);
-		
-		// Wall 1
-		wallDef = new BodyDef();
-		wallDef.position.set(0, 0);
-		
-		wall = world.createBody(wallDef);
-		wall.setUserData("wall");
-		
-		wallBox = new PolygonShape();
-		wallBox.setAsBox(0, camera.viewportHeight);
-		fixture = wall.createFixture(wallBox, 0.0f);
-		fixture.setUserData(this);
-		
-		// Wall 2
-		wallDef.position.set(camera.viewportWidth, 0);
-		wall = world.createBody(wallDef);
-		wall.setUserData("wall");
-		wallBox.setAsBox(0, camera.viewportHeight);
-		fixture = wall.createFixture(wallBox, 0.0f);
-		fixture.setUserData(this);
-	}
-	
-	/**
-	 * Increments player's enemy kill count.
-	 */
-	public void incrementKillCount() {
-		player.incrementKillCount();
-	}
-	
-	/**
-	 * Returns the world instance.
-	 * @return world.
-	 */
-	public static World getWorld() {
-		return world;
-	}
-	
 	/**
 	 * Returns the player instance.
 	 * @return world.
@@ -545,11 +496,14 @@ public class GameEngine extends ScreenAdapter {
 	 */
 	@Override
 	public void dispose() {
-		sr.dispose();
-		world.dispose();
-		eMan = null;
-		xWallBox.dispose();
-		wallBox.dispose();
+		batch.dispose();
+		circles.dispose();
+		overlay.dispose();
+		healthBar.dispose();
+		background.dispose();
+		song.dispose();
+		shot.dispose();
+		sim.dispose();
 	}
 	
 	/**
@@ -568,6 +522,19 @@ public class GameEngine extends ScreenAdapter {
 		state = GameState.RUN;
 	}
 	
+	/**
+	 * Starts a new session on this screen. The simulation is reset in
+	 * place and the renderers, textures and sounds are kept, so nothing
+	 * is loaded or decoded again.
+	 */
+	public void restart() {
+		sim.reset();
+		timestep.reset();
+		previous.clear();
+		flashRed = false;
+		state = GameState.RUN;
+	}
+
 	/**
 	 * Sets the game state to Dead.
 	 */
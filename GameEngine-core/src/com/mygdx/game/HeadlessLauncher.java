@@ -0,0 +1,131 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * HeadlessLauncher class runs the simulation without a window, GL,
+ * audio or input devices, with a bot at the controls. Ticks are not
+ * tied to the clock, so hours of play are simulated in as little time
+ * as the CPU allows, for balancing and soak testing. Each tick stage is
+ * profiled and its percentiles are logged at the end of the run.
+ *
+ * Usage: HeadlessLauncher [minutes] [seed]
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class HeadlessLauncher extends ApplicationAdapter {
+
+	/** Viewport width in meters of a 1920 pixel wide window. */
+	private static final int VIEW_WIDTH = 320;
+
+	/** Viewport height in meters of a 1080 pixel high window. */
+	private static final int VIEW_HEIGHT = 180;
+
+	/** Ticks run between checks for the end of the run. */
+	private static final int TICKS_PER_RENDER = 600;
+
+	/** Ticks between samples of the Box2D resources, a simulated minute. */
+	private static final int TICKS_PER_SAMPLE = 3600;
+
+	/** Simulated minutes to run for. */
+	private final float minutes;
+
+	/** Seed of the bot's choices. */
+	private final long seed;
+
+	/**   */
+	private Simulation sim;
+
+	/** Times each tick stage. */
+	private FrameProfiler profiler;
+
+	/** Ticks to run before stopping. */
+	private long targetTicks;
+
+	/** Wall clock time the run started at. */
+	private long startNanos;
+
+	/**
+	 *
+	 * @param minutes simulated minutes to run for
+	 * @param seed seed of the bot's choices
+	 */
+	public HeadlessLauncher(final float minutes, final long seed) {
+		this.minutes = minutes;
+		this.seed = seed;
+	}
+
+	/**
+	 * Builds the simulation with a bot at the controls.
+	 */
+	@Override
+	public void create() {
+		sim = new Simulation(VIEW_WIDTH * GameEngine.ARENA_SCREENS,
+				VIEW_HEIGHT * GameEngine.ARENA_SCREENS, new BotControls(seed),
+				Telemetry.load());
+		profiler = new FrameProfiler(FrameProfiler.DEFAULT_WINDOW);
+		profiler.setEnabled(true);
+		sim.getPipeline().setProfiler(profiler);
+		targetTicks = (long) (minutes * 60 * GameEngine.TICK_RATE);
+		startNanos = System.nanoTime();
+	}
+
+	/**
+	 * Runs a batch of ticks, exiting once the target time is reached
+	 * or the player has died.
+	 */
+	@Override
+	public void render() {
+		for (int i = 0; i < TICKS_PER_RENDER; i++) {
+			if (sim.isOver() || sim.getTicks() >= targetTicks) {
+				Gdx.app.exit();
+				return;
+			}
+			sim.tick(Simulation.getDeltaTime());
+			if (sim.getTicks() % TICKS_PER_SAMPLE == 0) {
+				sim.getResources().sample(sim.getWorld());
+			}
+		}
+	}
+
+	/**
+	 * Reports how the run went and releases the simulation.
+	 */
+	@Override
+	public void dispose() {
+		float simulated = sim.getTicks() / GameEngine.TICK_RATE;
+		float wall = (System.nanoTime() - startNanos) / 1e9f;
+		Player player = sim.getPlayer();
+		Gdx.app.log("Headless", String.format("simulated %.1f s in %.1f s (%.0fx)%s",
+				simulated, wall, simulated / wall, sim.isOver() ? ", player died" : ""));
+		Gdx.app.log("Headless", "kills: " + player.getKillCount()
+				+ ", score: " + player.getScore()
+				+ ", health: " + player.getHealth()
+				+ ", live enemies: " + sim.getEnemyManager().getStore().size());
+		ResourceAccountant resources = sim.getResources();
+		resources.sample(sim.getWorld());
+		Gdx.app.log("Headless", "Box2D resources: " + resources
+				+ (resources.isGrowing() ? ", possible leak" : ""));
+		for (FrameProfiler.Timings t : profiler.getStages()) {
+			Gdx.app.log("Headless", String.format("%-8s p50 %7.1f  p95 %7.1f  p99 %7.1f us",
+					t.getName(), t.percentile(0.5f) / 1e3f, t.percentile(0.95f) / 1e3f,
+					t.percentile(0.99f) / 1e3f));
+		}
+		sim.dispose();
+	}
+
+	/**
+	 * Starts a headless run.
+	 * @param args simulated minutes, default 60, and seed, default 0
+	 */
+	public static void main(final String[] args) {
+		float minutes = args.length > 0 ? Float.parseFloat(args[0]) : 60;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		config.renderInterval = 0;
+		new HeadlessApplication(new HeadlessLauncher(minutes, seed), config);
+	}
+}
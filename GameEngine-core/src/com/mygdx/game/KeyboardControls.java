@@ -0,0 +1,92 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * KeyboardControls class reads the player's input from the keyboard
+ * and mouse: WASD to move, the mouse button to fire and space for the
+ * shotgun. The cursor is unprojected through the camera into world
+ * coordinates.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class KeyboardControls implements Controls {
+
+	/** Camera the cursor is unprojected through. */
+	private final OrthographicCamera camera;
+
+	/** Cursor position in world coordinates. */
+	private final Vector3 cursor;
+
+	/**   */
+	private boolean left, right, up, down, firing, shotgun;
+
+	/**
+	 *
+	 * @param camera camera following the player
+	 */
+	public KeyboardControls(final OrthographicCamera camera) {
+		this.camera = camera;
+		cursor = new Vector3();
+	}
+
+	/**
+	 * Determines which directional keys are pressed, WASD, and whether
+	 * either weapon is fired.
+	 * @param simulation unused
+	 */
+	@Override
+	public void poll(final Simulation simulation) {
+		left = Gdx.input.isKeyPressed(Input.Keys.A);
+		right = !left && Gdx.input.isKeyPressed(Input.Keys.D);
+		up = Gdx.input.isKeyPressed(Input.Keys.W);
+		down = !up && Gdx.input.isKeyPressed(Input.Keys.S);
+		firing = Gdx.input.isTouched();
+		shotgun = Gdx.input.isKeyPressed(Input.Keys.SPACE);
+		cursor.set(Gdx.input.getX(), Gdx.input.getY(), 0);
+		camera.unproject(cursor);
+	}
+
+	@Override
+	public boolean isLeft() {
+		return left;
+	}
+
+	@Override
+	public boolean isRight() {
+		return right;
+	}
+
+	@Override
+	public boolean isUp() {
+		return up;
+	}
+
+	@Override
+	public boolean isDown() {
+		return down;
+	}
+
+	@Override
+	public boolean isFiring() {
+		return firing;
+	}
+
+	@Override
+	public boolean isShotgun() {
+		return shotgun;
+	}
+
+	@Override
+	public float getAimX() {
+		return cursor.x;
+	}
+
+	@Override
+	public float getAimY() {
+		return cursor.y;
+	}
+}
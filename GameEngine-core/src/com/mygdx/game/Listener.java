@@ -3,153 +3,205 @@ package com.mygdx.game;
 import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.utils.Array;
 
 /**
  * Contact listener detecting the touching of all bodies
- * in the game world.
+ * in the game world. Contacts are only recorded during the
+ * physics step and are resolved afterwards, so that no game
+ * logic modifies the world while it is locked.
+ * 
+ * Each contact is dispatched through a table indexed by the
+ * EntityType of both bodies. Handlers are registered once for
+ * a pair of types and stored for both orders, so recording and
+ * resolving a contact involves no string work or allocation.
+ * 
+ * While telemetry is enabled, the contacts begun each step are
+ * also counted per pair of types and reported after resolving.
  * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
  */
 public class Listener implements ContactListener {
-
-	/**   */
-	private String A;
 	
-	/**   */
-	private String B;
+	/** Every entity type, by ordinal. */
+	private static final EntityType[] TYPES = EntityType.values();
 	
-	/**   */
-	private String path = "class com.mygdx.game.";
+	/** Number of entity types indexing the dispatch table. */
+	private static final int TYPE_COUNT = TYPES.length;
 	
 	/**   */
-	private GameEngine gE;
+	private Simulation sim;
+	
+	/** Handler for each (type A, type B) pair, null if ignored. */
+	private ContactHandler[][] table;
+	
+	/** Handler of each contact begun this step. */
+	private Array<ContactHandler> pendingHandlers;
+	
+	/** Fixture A user data of each contact begun this step. */
+	private Array<Object> pendingA;
+	
+	/** Fixture B user data of each contact begun this step. */
+	private Array<Object> pendingB;
+	
+	/** Contacts begun this step per (type A, type B) pair. */
+	private int[][] pairCounts;
+	
+	/** True if contacts are counted for telemetry this step. */
+	private boolean counting;
+	
+	/** Told of the contacts counted each step. */
+	private final Telemetry telemetry;
 	
 	/**
 	 * 
-	 * @param gE GameEngine object
+	 * @param sim simulation the contacts belong to
 	 */
-	Listener(final GameEngine gE) {
-		this.gE = gE;
+	Listener(final Simulation sim) {
+		this.sim = sim;
+		table = new ContactHandler[TYPE_COUNT][TYPE_COUNT];
+		pendingHandlers = new Array<ContactHandler>();
+		pendingA = new Array<Object>();
+		pendingB = new Array<Object>();
+		pairCounts = new int[TYPE_COUNT][TYPE_COUNT];
+		telemetry = sim.getTelemetry();
+		counting = telemetry.isEnabled();
+		buildTable();
 	}
 	
 	/**
-	 * 
-	 * @param contact objects in contact
+	 * Registers the effect of every pair of entity types that
+	 * interact. All other pairs are ignored.
 	 */
-	@Override
-	public void beginContact(final Contact contact) {
-		Object objA = contact.getFixtureA().getUserData();
-		A = objA.getClass().toString();
-		
-		Object objB = contact.getFixtureB().getUserData();
-		B = objB.getClass().toString();
+	private void buildTable() {
+		ContactHandler projectileHitsEnemy = new ContactHandler() {
+			@Override
+			public void handle(final Object a, final Object b) {
+				Enemy enemy = (Enemy) a;
+				Projectile p = (Projectile) b;
+				if (enemy.takeDamage(p.getBulletDamage())) {
+					sim.incrementKillCount();
+				}
+				p.setDeletable();
+			}
+		};
+		ContactHandler enemyHitsPlayer = new ContactHandler() {
+			@Override
+			public void handle(final Object a, final Object b) {
+				Enemy enemy = (Enemy) a;
+				Player p = (Player) b;
+				enemy.applyImpulse(enemy.pushAway());
+				p.takeDamage(enemy.getBodyDamage());
+				sim.onPlayerHit();
+			}
+		};
+		ContactHandler projectileHitsPlayer = new ContactHandler() {
+			@Override
+			public void handle(final Object a, final Object b) {
+				Projectile p = (Projectile) a;
+				((Player) b).takeDamage(p.getBulletDamage());
+				p.setDeletable();
+				sim.onPlayerHit();
+			}
+		};
 		
-		if (A.equals(path + "PlayerProjectile")) {
-			A = "playerpProj";	
-		} else if (B.equals(path + "PlayerProjectile")) {
-			B = "playerpProj";
-		}
-		if (A.equals(path + "EnemyProjectile")) {
-			A = "enemyProj";	
-		} else if (B.equals(path + "EnemyProjectile")) {
-			B = "enemyProj";
+		EntityType[] enemies = {EntityType.SWARMER, EntityType.SPITTER, EntityType.DEMON};
+		for (EntityType enemy : enemies) {
+			register(enemy, EntityType.PLAYER_PROJECTILE, projectileHitsEnemy);
+			register(enemy, EntityType.PLAYER, enemyHitsPlayer);
 		}
-		if (A.equals(path + "Player")) {
-			A = "player";
-		} else if (B.equals(path + "Player")) {
-			B = "player";
+		register(EntityType.ENEMY_PROJECTILE, EntityType.PLAYER, projectileHitsPlayer);
+	}
+	
+	/**
+	 * Stores a handler for a pair of types in both orders. When the
+	 * types arrive reversed, the handler receives its arguments swapped
+	 * so it can always assume the order it was registered with.
+	 * @param a first type
+	 * @param b second type
+	 * @param handler effect of a touching b
+	 */
+	private void register(final EntityType a, final EntityType b,
+			final ContactHandler handler) {
+		table[a.ordinal()][b.ordinal()] = handler;
+		if (a != b) {
+			table[b.ordinal()][a.ordinal()] = new ContactHandler() {
+				@Override
+				public void handle(final Object first, final Object second) {
+					handler.handle(second, first);
+				}
+			};
 		}
-		if (A.equals(path + "Swarmer")) {
-			A = "swarmer";
-		} else if (B.equals(path + "Swarmer")) {
-			B = "swarmer";
+	}
+	
+	/**
+	 * Records the touching objects to be resolved after the step.
+	 * @param contact objects in contact
+	 */
+	@Override
+	public void beginContact(final Contact contact) {
+		Fixture fixtureA = contact.getFixtureA();
+		Fixture fixtureB = contact.getFixtureB();
+		record(fixtureA.getUserData(), (EntityType) fixtureA.getBody().getUserData(),
+				fixtureB.getUserData(), (EntityType) fixtureB.getBody().getUserData());
+	}
+	
+	/**
+	 * Looks up the handler for a pair of touching entities and queues
+	 * it if the pair interacts.
+	 * @param objA user data of fixture A
+	 * @param typeA type of body A
+	 * @param objB user data of fixture B
+	 * @param typeB type of body B
+	 */
+	void record(final Object objA, final EntityType typeA,
+			final Object objB, final EntityType typeB) {
+		if (counting) {
+			pairCounts[typeA.ordinal()][typeB.ordinal()]++;
 		}
-		if (A.equals(path + "Spitter")) {
-			A = "spitter";
-		} else if (B.equals(path + "Spitter")) {
-			B = "spitter";
+		ContactHandler handler = table[typeA.ordinal()][typeB.ordinal()];
+		if (handler != null) {
+			pendingHandlers.add(handler);
+			pendingA.add(objA);
+			pendingB.add(objB);
 		}
-		if (A.equals(path + "Demon")) {
-			A = "demon";
-		} else if (B.equals(path + "Demon")) {
-			B = "demon";
+	}
+	
+	/**
+	 * Applies the game effects of every contact recorded during the
+	 * last physics step, in the order they began.
+	 */
+	public void resolveContacts() {
+		for (int i = 0; i < pendingHandlers.size; i++) {
+			pendingHandlers.get(i).handle(pendingA.get(i), pendingB.get(i));
 		}
-		
-		if ((A.equals("swarmer") || A.equals("spitter") || A.equals("demon")) 
-				&& B.equals("playerpProj")) {
-			Enemy a;
-			if (A.equals("swarmer")) {
-				a = (Swarmer) contact.getFixtureA().getUserData();
-			} else if (A.equals("spitter")) {
-				a = (Spitter) contact.getFixtureA().getUserData();
-			} else {
-				a = (Demon) contact.getFixtureA().getUserData();
-			}
-			PlayerProjectile b = (PlayerProjectile) contact.getFixtureB().getUserData();
-			if (a.takeDamage(b.getBulletDamage())) {
-				gE.incrementKillCount();
-			}
-			b.setDeletable();
-		} else if (A.equals("playerpProj") 
-				&& (B.equals("swarmer") || B.equals("spitter") || B.equals("demon"))) {
-			Enemy b;
-			if (B.equals("swarmer")) {
-				b = (Swarmer) contact.getFixtureB().getUserData();
-			} else if (B.equals("spitter")) {
-				b = (Spitter) contact.getFixtureB().getUserData();
-			} else {
-				b = (Demon) contact.getFixtureB().getUserData();
-			}
-			PlayerProjectile a = (PlayerProjectile) contact.getFixtureA().getUserData();
-			if (b.takeDamage(a.getBulletDamage())) {
-				gE.incrementKillCount();
-			}
-			a.setDeletable();
+		pendingHandlers.clear();
+		pendingA.clear();
+		pendingB.clear();
+		if (counting) {
+			reportCounts();
 		}
-		
-		if ((A.equals("swarmer") || A.equals("spitter") || A.equals("demon")) 
-				&& B.equals("player")) {
-			Enemy a;
-			if (A.equals("swarmer")) {
-				a = (Swarmer) contact.getFixtureA().getUserData();
-			} else if (A.equals("spitter")) {
-				a = (Spitter) contact.getFixtureA().getUserData();
-			} else {
-				a = (Demon) contact.getFixtureA().getUserData();
-			}
-			Player b = (Player) contact.getFixtureB().getUserData();
-			a.applyImpulse(a.pushAway());
-			b.takeDamage(a.getBodyDamage());
-			gE.flashRed();
-		} else if (A.equals("player") 
-				&& (B.equals("swarmer") || B.equals("spitter") || B.equals("demon"))) {
-			Enemy b;
-			if (B.equals("swarmer")) {
-				b = (Swarmer) contact.getFixtureB().getUserData();
-			} else if (B.equals("spitter")) {
-				b = (Spitter) contact.getFixtureB().getUserData();
-			} else {
-				b = (Demon) contact.getFixtureB().getUserData();
+		counting = telemetry.isEnabled();
+	}
+	
+	/**
+	 * Reports the contacts counted this step per pair of types, with
+	 * both orders of a pair added together, and clears the counts.
+	 */
+	private void reportCounts() {
+		for (int a = 0; a < TYPE_COUNT; a++) {
+			for (int b = a; b < TYPE_COUNT; b++) {
+				int count = pairCounts[a][b];
+				if (a != b) {
+					count += pairCounts[b][a];
+					pairCounts[b][a] = 0;
+				}
+				pairCounts[a][b] = 0;
+				if (count > 0) {
+					telemetry.contacts(TYPES[a], TYPES[b], count);
+				}
 			}
-			Player a = (Player) contact.getFixtureA().getUserData();
-			b.applyImpulse(b.pushAway());
-			a.takeDamage(b.getBodyDamage());
-			gE.flashRed();
-			//send inverted impulse to enemy
-		}
-		
-		if (A.equals("player") && B.equals("enemyProj")) {
-			Player a = (Player) contact.getFixtureA().getUserData();
-			EnemyProjectile b = (EnemyProjectile) contact.getFixtureB().getUserData();
-			a.takeDamage(b.getBulletDamage());
-			b.setDeletable();
-			gE.flashRed();
-		} else if (A.equals("enemyProj") && B.equals("player")) {
-			Player b = (Player) contact.getFixtureB().getUserData();
-			EnemyProjectile a = (EnemyProjectile) contact.getFixtureA().getUserData();
-			b.takeDamage(a.getBulletDamage());
-			a.setDeletable();
-			gE.flashRed();
 		}
 	}
 
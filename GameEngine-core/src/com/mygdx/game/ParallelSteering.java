@@ -0,0 +1,249 @@
+package com.mygdx.game;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelSteering class moves every swarmer in an EnemyStore along a
+ * flow field to the player, splitting the store into one chunk per
+ * thread. The field is first resolved at every swarmer's cell on the
+ * calling thread. Steering an enemy then only reads the field, the
+ * player position and its own slot and only writes that slot's
+ * velocity, so chunks need no locking. The
+ * store's velocity arrays act as the output buffer; applying them to
+ * Box2D bodies is left to the calling thread, as Box2D is not thread
+ * safe. Below the threshold the work runs on the calling thread alone.
+ *
+ * The worker threads are shared by every simulation in the process.
+ * Workers and the calling thread claim chunks from a counter, so the
+ * calling thread steers every chunk no worker has claimed yet and never
+ * waits on a pool kept busy by other simulations. A worker that starts
+ * after every chunk is claimed does nothing.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class ParallelSteering {
+
+	/** Threads steering at once, including the calling thread. */
+	private final int threads;
+
+	/** Fewest enemies worth splitting across threads. */
+	private final int threshold;
+
+	/** Worker threads shared by every simulation, created when first needed. */
+	private static Executor shared;
+
+	/** Runs the helpers, null if single threaded. */
+	private final Executor executor;
+
+	/** First slot of each chunk. */
+	private final int[] starts;
+
+	/** Slot after the last of each chunk. */
+	private final int[] ends;
+
+	/** Index of the next chunk to claim. */
+	private final AtomicInteger next;
+
+	/** Chunks steered so far this tick. */
+	private final AtomicInteger finished;
+
+	/** Steers chunks on a worker thread, submitted once per other thread. */
+	private final Runnable helper;
+
+	/** Store being steered. */
+	private EnemyStore store;
+
+	/** Field being followed. */
+	private FlowField field;
+
+	/** Player's X position. */
+	private float targetX;
+
+	/** Player's Y position. */
+	private float targetY;
+
+	/**
+	 * Steers with every core, on the shared worker threads.
+	 * @param threshold fewest enemies worth splitting across threads
+	 */
+	public ParallelSteering(final int threshold) {
+		this(getSharedExecutor(), Runtime.getRuntime().availableProcessors(), threshold);
+	}
+
+	/**
+	 *
+	 * @param executor runs the work of every thread but the calling one,
+	 * may be null if single threaded
+	 * @param threads threads to steer with, including the calling thread
+	 * @param threshold fewest enemies worth splitting across threads
+	 */
+	public ParallelSteering(final Executor executor, final int threads, final int threshold) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("threads must be positive");
+		}
+		if (threads > 1 && executor == null) {
+			throw new IllegalArgumentException("threads > 1 needs an executor");
+		}
+		this.threads = threads;
+		this.threshold = threshold;
+		this.executor = threads > 1 ? executor : null;
+		starts = new int[threads];
+		ends = new int[threads];
+		next = new AtomicInteger(threads);
+		finished = new AtomicInteger(threads);
+		helper = new Runnable() {
+			@Override
+			public void run() {
+				steerChunks();
+			}
+		};
+	}
+
+	/**
+	 * Returns the worker threads shared by every simulation, one fewer
+	 * than the cores, creating them on first use. They are daemons, so
+	 * they never keep the process alive.
+	 * @return shared executor
+	 */
+	public static synchronized Executor getSharedExecutor() {
+		if (shared == null) {
+			int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+			shared = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable r) {
+					Thread t = new Thread(r, "steering");
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		return shared;
+	}
+
+	/**
+	 * Writes the desired velocity of every enemy in the store that
+	 * follows the field into its velocity arrays, after resolving the
+	 * field at their cells.
+	 * Returns once all chunks are done.
+	 * @param store enemy store
+	 * @param field flow field leading to the player
+	 * @param x player's x coordinate
+	 * @param y player's y coordinate
+	 */
+	public void steer(final EnemyStore store, final FlowField field,
+			final float x, final float y) {
+		resolve(store, field);
+		int size = store.size();
+		if (executor == null || size < threshold) {
+			steer(store, field, x, y, 0, size);
+			return;
+		}
+		this.store = store;
+		this.field = field;
+		targetX = x;
+		targetY = y;
+		int per = (size + threads - 1) / threads;
+		for (int i = 0; i < threads; i++) {
+			starts[i] = Math.min(i * per, size);
+			ends[i] = Math.min(starts[i] + per, size);
+		}
+		finished.set(0);
+		// publishes the chunks and fields to the workers
+		next.set(0);
+		for (int i = 1; i < threads; i++) {
+			executor.execute(helper);
+		}
+		steerChunks();
+		if (finished.get() < threads) {
+			awaitChunks();
+		}
+		this.store = null;
+		this.field = null;
+	}
+
+	/**
+	 * Claims and steers chunks until none are left, waking the calling
+	 * thread once the last one is done.
+	 */
+	private void steerChunks() {
+		int i;
+		while ((i = next.getAndIncrement()) < threads) {
+			try {
+				steer(store, field, targetX, targetY, starts[i], ends[i]);
+			} finally {
+				if (finished.incrementAndGet() == threads) {
+					synchronized (finished) {
+						finished.notifyAll();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits for the chunks claimed by workers to be done.
+	 */
+	private void awaitChunks() {
+		boolean interrupted = false;
+		synchronized (finished) {
+			while (finished.get() < threads) {
+				try {
+					finished.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Resolves the field at the cell of every enemy in the store that
+	 * follows it.
+	 * @param store enemy store
+	 * @param field flow field leading to the player
+	 */
+	private static void resolve(final EnemyStore store, final FlowField field) {
+		int[] components = store.getComponents();
+		float[] x = store.getX();
+		float[] y = store.getY();
+		for (int i = 0; i < store.size(); i++) {
+			if ((components[i] & EnemyStore.FOLLOWS) != 0) {
+				field.resolve(x[i], y[i]);
+			}
+		}
+	}
+
+	/**
+	 * Steers the enemies that follow the field in a range of slots.
+	 * @param store enemy store
+	 * @param field flow field leading to the player
+	 * @param x player's x coordinate
+	 * @param y player's y coordinate
+	 * @param start first slot
+	 * @param end slot after the last
+	 */
+	private static void steer(final EnemyStore store, final FlowField field,
+			final float x, final float y, final int start, final int end) {
+		int[] components = store.getComponents();
+		for (int i = start; i < end; i++) {
+			if ((components[i] & EnemyStore.FOLLOWS) != 0) {
+				store.follow(i, field, x, y);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of threads steering at once.
+	 * @return threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.mygdx.game;
+
+/**
+ * A single named step of the frame pipeline, such as input handling,
+ * enemy AI or the physics step. Stages are registered with a
+ * FramePipeline, which runs them in order.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public abstract class PipelineStage {
+
+	/** Identifies the stage when reordering or timing it. */
+	private final String name;
+
+	/**
+	 *
+	 * @param name stage name
+	 */
+	public PipelineStage(final String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Performs the stage's work.
+	 * @param delta simulated seconds for tick stages,
+	 * real seconds for frame stages
+	 */
+	public abstract void run(float delta);
+
+	/**
+	 * Returns the stage name.
+	 * @return name
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -1,7 +1,5 @@
 package com.mygdx.game; 
 
-import java.util.ArrayList;
-
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -20,23 +18,38 @@ import com.badlogic.gdx.physics.box2d.FixtureDef;
  */
 public class Player {
 	
+	/** Velocity limit at the start of a session. */
+	private static final float MAX_VELOCITY = 80f;
+	
+	/** Acceleration at the start of a session in m/s^2. */
+	private static final float ACCELERATION = 30.0f;
+	
+	/** Health at the start of a session. */
+	private static final float HEALTH = 100f;
+	
+	/** Time between shots at the start of a session in seconds. */
+	private static final float SHOT_TIME = 0.2f;
+	
+	/** Time between shotgun blasts at the start of a session in seconds. */
+	private static final float SHOTGUN_TIME = 1.0f;
+	
 	/** Circular player size in meters.*/
 	private float playerRadius = GameEngine.getPlayRadius();
 	
-	/** Scaled Y value of the window. */
-	private float viewportHeight = GameEngine.getViewHeight();
+	/** Height of the arena in meters. */
+	private final float arenaHeight;
 	
-	/** Scaled X value of the window. */
-	private float viewportWidth = GameEngine.getViewWidth();
+	/** Width of the arena in meters. */
+	private final float arenaWidth;
 	
 	/** Velocity limit. */
-	private float maxVelocity = 80f;
+	private float maxVelocity = MAX_VELOCITY;
 	
 	/**  Applied acceleration upon movement in m/s^2.*/
-	private float playerAcceleration = 30.0f; //30->79
+	private float playerAcceleration = ACCELERATION; //30->79
 	
 	/** Amount of damage Player can take. */
-	private float health = 100f; // 100->1000
+	private float health = HEALTH; // 100->1000
 	
 	/** Amount of damage of Player projectiles. */
 	private float bulletDamage = 10f;
@@ -48,10 +61,10 @@ public class Player {
 	private int score;
 	
 	/**  Time between shots in seconds.*/
-	private float shotTime = 0.2f; //0.8->0.05
+	private float shotTime = SHOT_TIME; //0.8->0.05
 	
 	/**  Time between shots in seconds.*/
-	private float shotgunTime = 1.0f; //1.0->0.05
+	private float shotgunTime = SHOTGUN_TIME; //1.0->0.05
 	
 	/** Circle shape. */
 	private Circle body;
@@ -62,7 +75,7 @@ public class Player {
 	/** Physical body. */
 	private Body solidBody;
 	
-	/** Box2D circle shape. */
+	/** Box2D circle shape, shared by every body of the type. */
 	private CircleShape circle;
 	
 	/** Characteristics of fixture. */
@@ -71,31 +84,64 @@ public class Player {
 	/** Attaches a physical body to its qualities. */
 	private Fixture fixture;
 	
-	/** All projectiles fired from Player. */
-	private ArrayList<PlayerProjectile> projectiles;
+	/** Player projectiles, parked and in flight. */
+	private ProjectilePool projectilePool;
+	
+	/** Movement force, reused every update. */
+	private final Vector2 force = new Vector2();
+	
+	/** Resistance force, reused every update. */
+	private final Vector2 resistance = new Vector2();
+	
+	/** Capped velocity, reused every update. */
+	private final Vector2 capped = new Vector2();
 	
 	/**
 	 * 
+	 * @param sim simulation the player's body is built in
 	 */
-	public Player() {
+	public Player(final Simulation sim) {
+		arenaHeight = sim.getArenaHeight();
+		arenaWidth = sim.getArenaWidth();
 		body = new Circle();
 		bodyDef = new BodyDef();
 		bodyDef.type = BodyType.DynamicBody;
-		bodyDef.position.set(viewportWidth / 2, viewportHeight / 2);
-		solidBody = GameEngine.getWorld().createBody(bodyDef);
-		solidBody.setUserData("player"); //user data is any data type, for any purpose
-		circle = new CircleShape();
-		circle.setRadius(playerRadius);
+		bodyDef.position.set(arenaWidth / 2, arenaHeight / 2);
+		solidBody = sim.getWorld().createBody(bodyDef);
+		solidBody.setUserData(EntityType.PLAYER); //user data is any data type, for any purpose
+		circle = sim.getShapes().circle(EntityType.PLAYER, playerRadius);
 		
 		fixtureDef = new FixtureDef();
 		fixtureDef.shape = circle;
 		fixtureDef.density = 0.15f; 
 		fixtureDef.friction = 0.4f;
 		fixtureDef.restitution = 0.8f; // bounciness
+		CollisionFilter.apply(fixtureDef, EntityType.PLAYER);
 		
 		fixture = solidBody.createFixture(fixtureDef);
 		fixture.setUserData(this);
-		projectiles = new ArrayList<PlayerProjectile>();
+		projectilePool = new ProjectilePool(sim, EntityType.PLAYER_PROJECTILE,
+				GameEngine.PLAYER_PROJECTILE_SPEED, GameEngine.PLAYER_PROJECTILE_POOL_SIZE);
+	}
+	
+	/**
+	 * Starts a new session without rebuilding the body: returns every
+	 * projectile in flight to the pool, moves the body back to the
+	 * center of the arena at rest and restores the starting stats.
+	 */
+	public void reset() {
+		projectilePool.freeAll();
+		solidBody.setTransform(arenaWidth / 2, arenaHeight / 2, 0);
+		solidBody.setLinearVelocity(0, 0);
+		solidBody.setAngularVelocity(0);
+		setPos();
+		maxVelocity = MAX_VELOCITY;
+		playerAcceleration = ACCELERATION;
+		health = HEALTH;
+		shotTime = SHOT_TIME;
+		shotgunTime = SHOTGUN_TIME;
+		killCount = 0;
+		score = 0;
 	}
 	
 	/**
@@ -122,9 +168,7 @@ public class Player {
 	 * @param mouseY the vertical pixel position.
 	 */
 	public void fireProjectile(final float mouseX, final float mouseY) {
-			PlayerProjectile p = new PlayerProjectile(
-					getX(), getY(), mouseX, mouseY, bulletDamage);
-			projectiles.add(p);
+		shoot(mouseX, mouseY);
 	}
 	
 	/**
@@ -133,46 +177,48 @@ public class Player {
 	 * @param mouseY mouse Y coordinate
 	 */
 	public void fireShotgun(final float mouseX, final float mouseY)  {
-		PlayerProjectile a = new PlayerProjectile(
-				getX(), getY(), mouseX, mouseY, bulletDamage);
-		projectiles.add(a);
-		PlayerProjectile b = new PlayerProjectile(
-				getX(), getY(), mouseX + 10, mouseY + 10, bulletDamage);
-		projectiles.add(b);
-		PlayerProjectile c = new PlayerProjectile(
-				getX(), getY(), mouseX + 4, mouseY + 4, bulletDamage);
-		projectiles.add(c);
-		PlayerProjectile d = new PlayerProjectile(
-				getX(), getY(), mouseX - 4, mouseY - 4, bulletDamage);
-		projectiles.add(d);
-		PlayerProjectile e = new PlayerProjectile(
-				getX(), getY(), mouseX - 10, mouseY - 10, bulletDamage);
-		projectiles.add(e);
+		shoot(mouseX, mouseY);
+		shoot(mouseX + 10, mouseY + 10);
+		shoot(mouseX + 4, mouseY + 4);
+		shoot(mouseX - 4, mouseY - 4);
+		shoot(mouseX - 10, mouseY - 10);
 	}
 	
 	/**
-	 * Collects each projectile fired from the Player that can be deleted
-	 * and returns this to GameEngine.
+	 * Takes a projectile from the pool and fires it from the Player's
+	 * position towards the target.
+	 * @param targetX target X coordinate
+	 * @param targetY target Y coordinate
+	 */
+	private void shoot(final float targetX, final float targetY) {
+		projectilePool.fire(this, getX(), getY(), targetX, targetY, bulletDamage);
+	}
+	
+	/**
+	 * Returns each projectile fired from the Player that has expired
+	 * or hit something to the projectile pool.
 	 * @param time time between frames.
 	 */
 	public void manageProjectiles(final float time) {
-		if (!projectiles.isEmpty()) {
-			for (int i = 0; i < projectiles.size(); i++) {
-				if (projectiles.get(i).deletable(time)) { 
-					projectiles.remove(i);
-				}
-			}
-		}
+		projectilePool.update(time);
+	}
+	
+	/**
+	 * Returns the pool the Player's projectiles are drawn from.
+	 * @return projectilePool
+	 */
+	public ProjectilePool getProjectilePool() {
+		return projectilePool;
 	}
 	
 	/**
 	 * Imposes slow deacceleration upon the player to simulate natural
 	 * environmental resistances.
 	 * @param v velocity
-	 * @return vec
+	 * @return vec, reused by the next call
 	 */
 	private Vector2 simulateResistance(final Vector2 v) {
-		Vector2 vec = new  Vector2();
+		Vector2 vec = resistance.setZero();
 		float xResistance = 1 + Math.abs(v.x / 5);
 		float yResistance = 1 + Math.abs(v.y / 5);
 		if (v.x < 0)  {
@@ -194,7 +240,7 @@ public class Player {
 	 * 
 	 * Check again maximum ratios of the max velocity given the current ratio of velocities
 	 * @param currentV current velocity
-	 * @return v
+	 * @return v, reused by the next call
 	 */
 	private Vector2 velocityCap(final Vector2 currentV) {
 		float xVelocity = currentV.x;
@@ -205,7 +251,7 @@ public class Player {
 		float yRat = yVelocity / sum;
 		float xCap = Math.abs(xRat * maxVelocity);
 		float yCap = Math.abs(yRat * maxVelocity);
-		Vector2 v = new Vector2(xVelocity, yVelocity);
+		Vector2 v = capped.set(xVelocity, yVelocity);
 		if (xVelocity > xCap) {
 			v.x = xCap;
 		} else if (xVelocity < -xCap) {
@@ -229,11 +275,11 @@ public class Player {
 	 * @param left A
 	 * @param up W
 	 * @param down S
-	 * @return force
+	 * @return force, reused by the next call
 	 */
 	private Vector2 move(final boolean right, final boolean left,
 			final boolean up, final boolean down) {
-		Vector2 force = new Vector2();
+		force.setZero();
 		float diagForce = (playerAcceleration * 2) / 3;
 		if (left && !up && !down) {
 			force.x = -playerAcceleration;
@@ -253,7 +299,7 @@ public class Player {
 			if (up) {
 				force.set(diagForce, diagForce);
 			} else if (down) {
-				force.set(diagForce, -diagForce);
+				force.set(diagForce, -diagForce);
 			}
 		}
 		return force;
@@ -266,6 +312,14 @@ public class Player {
 		body.setPosition(solidBody.getPosition());
 	}
 	
+	/**
+	 * Returns physical body.
+	 * @return Player's physical body
+	 */
+	public Body getBody() {
+		return solidBody;
+	}
+	
 	/**
 	 * Returns body velocity.
 	 * @return velocity
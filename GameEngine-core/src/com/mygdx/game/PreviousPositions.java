@@ -0,0 +1,97 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * PreviousPositions class remembers where each active body was before
+ * the latest tick, so that a frame drawn between two ticks can place
+ * the body between its previous and its current position. Bodies that
+ * were inactive or did not exist before the tick, such as a projectile
+ * just fired or an enemy just spawned, have no previous position and
+ * are drawn where they are.
+ *
+ * Bodies are only destroyed at the end of a tick, after every body of
+ * that tick has been created, so a recorded body is never reused for
+ * another before the next record.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class PreviousPositions {
+
+	/** Index of each recorded body's position. */
+	private final ObjectIntMap<Body> slots;
+
+	/** X coordinate of each recorded body. */
+	private final FloatArray x;
+
+	/** Y coordinate of each recorded body. */
+	private final FloatArray y;
+
+	/** Bodies of the world, refilled by each record. */
+	private final Array<Body> bodies;
+
+	/**
+	 *
+	 */
+	public PreviousPositions() {
+		slots = new ObjectIntMap<Body>();
+		x = new FloatArray();
+		y = new FloatArray();
+		bodies = new Array<Body>();
+	}
+
+	/**
+	 * Records the position of every active body in the world,
+	 * forgetting the previous record. Called before each tick.
+	 * @param world world owning the bodies
+	 */
+	public void record(final World world) {
+		clear();
+		world.getBodies(bodies);
+		for (int i = 0; i < bodies.size; i++) {
+			Body b = bodies.get(i);
+			if (b.isActive()) {
+				Vector2 pos = b.getPosition();
+				slots.put(b, x.size);
+				x.add(pos.x);
+				y.add(pos.y);
+			}
+		}
+	}
+
+	/**
+	 * Sets out to the body's position a fraction of the way from the
+	 * recorded one to its current one, or to its current position if
+	 * it was not recorded.
+	 * @param body body
+	 * @param alpha fraction of a tick since the latest tick, in [0, 1)
+	 * @param out receives the position
+	 * @return out
+	 */
+	public Vector2 interpolate(final Body body, final float alpha, final Vector2 out) {
+		Vector2 pos = body.getPosition();
+		int i = slots.get(body, -1);
+		if (i < 0) {
+			return out.set(pos);
+		}
+		float px = x.get(i);
+		float py = y.get(i);
+		return out.set(px + (pos.x - px) * alpha, py + (pos.y - py) * alpha);
+	}
+
+	/**
+	 * Forgets every recorded position, so bodies are drawn where they
+	 * are until the next record. Called when bodies are moved outside
+	 * of a tick.
+	 */
+	public void clear() {
+		slots.clear();
+		x.clear();
+		y.clear();
+	}
+}
@@ -0,0 +1,140 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * ProfilerOverlay class draws a FrameProfiler's results in the top
+ * left corner of the window: each stage's latest time and its 50th,
+ * 95th and 99th percentiles in microseconds, then the live Box2D
+ * bodies, fixtures and shapes, the body count by entity type and the
+ * contact count. The text is only rebuilt every few frames, since
+ * sorting the samples and formatting them is not free either.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class ProfilerOverlay implements Disposable {
+
+	/** Frames between rebuilds of the text. */
+	private static final int REFRESH_FRAMES = 15;
+
+	/** Pixels between the text and the window's edges. */
+	private static final float PADDING = 8f;
+
+	/** Every entity type, cached since values() copies the array. */
+	private static final EntityType[] TYPES = EntityType.values();
+
+	/**   */
+	private final FrameProfiler profiler;
+
+	/**   */
+	private final BitmapFont font;
+
+	/** Projection in window pixels. */
+	private final Matrix4 projection;
+
+	/** Text drawn, rebuilt every few frames. */
+	private final StringBuilder text;
+
+	/** Frames drawn since the text was rebuilt. */
+	private int frames = REFRESH_FRAMES;
+
+	/**
+	 *
+	 * @param profiler profiler whose results are drawn
+	 */
+	public ProfilerOverlay(final FrameProfiler profiler) {
+		this.profiler = profiler;
+		font = new BitmapFont();
+		font.setColor(Color.GREEN);
+		projection = new Matrix4();
+		text = new StringBuilder();
+	}
+
+	/**
+	 * Draws the results if the profiler is enabled.
+	 * @param batch batch to draw with, not yet begun
+	 * @param sim simulation whose bodies are counted
+	 */
+	public void draw(final SpriteBatch batch, final Simulation sim) {
+		if (!profiler.isEnabled()) {
+			return;
+		}
+		if (++frames >= REFRESH_FRAMES) {
+			profiler.count(sim.getWorld());
+			sim.getResources().sample(sim.getWorld());
+			rebuild(sim.getResources());
+			frames = 0;
+		}
+		int width = Gdx.graphics.getWidth();
+		int height = Gdx.graphics.getHeight();
+		projection.setToOrtho2D(0, 0, width, height);
+		batch.setProjectionMatrix(projection);
+		batch.setColor(Color.WHITE);
+		batch.begin();
+		font.draw(batch, text, PADDING, height - PADDING);
+		batch.end();
+	}
+
+	/**
+	 * Rebuilds the text from the profiler's current results.
+	 * @param resources native Box2D resources, just sampled
+	 */
+	private void rebuild(final ResourceAccountant resources) {
+		text.setLength(0);
+		text.append("stage        last    p50    p95    p99  us\n");
+		Array<FrameProfiler.Timings> stages = profiler.getStages();
+		for (int i = 0; i < stages.size; i++) {
+			FrameProfiler.Timings t = stages.get(i);
+			text.append(t.getName());
+			for (int pad = t.getName().length(); pad < 8; pad++) {
+				text.append(' ');
+			}
+			appendMicros(t.getLast());
+			appendMicros(t.percentile(0.5f));
+			appendMicros(t.percentile(0.95f));
+			appendMicros(t.percentile(0.99f));
+			text.append('\n');
+		}
+		text.append("bodies ").append(resources.getBodies())
+				.append("  fixtures ").append(resources.getFixtures())
+				.append("  shapes ").append(resources.getShapes())
+				.append("  contacts ").append(profiler.getContactCount());
+		if (resources.isGrowing()) {
+			text.append("  GROWING");
+		}
+		text.append('\n');
+		for (EntityType type : TYPES) {
+			int count = profiler.getCount(type);
+			if (count > 0) {
+				text.append(type.name().toLowerCase()).append(' ').append(count).append("  ");
+			}
+		}
+	}
+
+	/**
+	 * Appends a time in microseconds with one decimal, right aligned.
+	 * @param nanos time in nanoseconds
+	 */
+	private void appendMicros(final long nanos) {
+		long tenths = nanos / 100;
+		int start = text.length();
+		text.append(tenths / 10).append('.').append(tenths % 10);
+		for (int pad = text.length() - start; pad < 7; pad++) {
+			text.insert(start, ' ');
+		}
+	}
+
+	/**
+	 * Releases the font.
+	 */
+	@Override
+	public void dispose() {
+		font.dispose();
+	}
+}
@@ -12,10 +12,12 @@ import com.badlogic.gdx.physics.box2d.FixtureDef;
 /**
  * Projectile class creates its own body and calculates 
  * its velocity relative to the cursor click and the 
- * Player's position. After a certain time it will signify
- * that it is ready for deletion, however it cannot delete
- * itself and so must pass this information back up to the
- * GameEngine so that it can delete it.
+ * Player's position. Projectiles are kept in a ProjectilePool:
+ * the body is built once, parked while unused, and moved and
+ * reactivated each time the projectile is fired. After a certain
+ * time, or after hitting something, it signifies that it is
+ * ready to be returned to its pool. Player and enemy projectiles
+ * differ only in the type and speed their pool builds them with.
  * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
  */
 public class Projectile {
@@ -38,7 +40,7 @@ public class Projectile {
 	/** */
 	private float dY;
 	
-	/**  Temporary position vector.*/
+	/**  Scratch vector returned by calculateVelocity and determineQuadrant.*/
 	private Vector2 vec;
 	
 	/**  Circle shape.*/
@@ -50,7 +52,7 @@ public class Projectile {
 	/**  Physical body.*/
 	private Body solidBody;
 	
-	/**  Box2D circle shape.*/
+	/**  Box2D circle shape, shared by every body of the type.*/
 	private CircleShape circle;
 	
 	/**  Characteristics of fixture.*/
@@ -59,43 +61,92 @@ public class Projectile {
 	/**  Attaches a physical body to its qualities.*/
 	private Fixture fixture;
 	
+	/**  Kind of projectile, restored as body user data when fired.*/
+	private final EntityType type;
+	
+	/**  Whoever fired the projectile last.*/
+	private Object owner;
+	
 	/**
-	 * Constructor that assigns passed values locally that will be used
-	 * to calculate trajectory. Creates graphical and physical body objects.
-	 * @param sourceX player's X coordinate in pixels.
-	 * @param sourceY player's Y coordinate in pixels.
-	 * @param targetX cursor's X coordinate in pixels.
-	 * @param targetY cursor's Y coordinate in pixels.
-	 * @param bulletDamage projectile's damage
+	 * Creates the graphical and physical body objects once. The body
+	 * starts parked until the projectile is fired.
+	 * @param sim simulation the body is built in
+	 * @param type kind of projectile, used for tagging and collision filtering
+	 * @param maxVelocity projectile speed
 	 */
-	public Projectile(final float sourceX, final float sourceY,
-			final float targetX, final float targetY, final float bulletDamage) {
-		damage = bulletDamage;
-		dX = targetX - sourceX;
-		dY = targetY - sourceY;
+	public Projectile(final Simulation sim, final EntityType type, final int maxVelocity) {
+		this.type = type;
+		this.maxVelocity = maxVelocity;
+		vec = new Vector2();
+		buildBody(sim);
 	}
 	
 	/**
-	 * Allows subclasses to build the body after modifying passed in data.
-	 * @param sourceX Projectile's source x position.
-	 * @param sourceY Projectile's source y position.
+	 * Builds an inactive body and its fixture.
+	 * @param sim simulation the body is built in
 	 */
-	public void buildBody(final float sourceX, final float sourceY) {
+	private void buildBody(final Simulation sim) {
 		body = new Circle();
 		bodyDef = new BodyDef();
 		bodyDef.type = BodyType.DynamicBody;
-		vec = new Vector2(determineQuadrant());
-		bodyDef.position.set(sourceX + vec.x, sourceY + vec.y);
-		solidBody = GameEngine.getWorld().createBody(bodyDef);
-		circle = new CircleShape();
-		circle.setRadius(GameEngine.getProjRadius());
+		bodyDef.active = false;
+		solidBody = sim.getWorld().createBody(bodyDef);
+		solidBody.setUserData(EntityType.POOLED);
+		circle = sim.getShapes().circle(type, GameEngine.getProjRadius());
 		
 		fixtureDef = new FixtureDef();
 		fixtureDef.shape = circle;
 		fixtureDef.density = 0.1f; 
 		fixtureDef.friction = 0.4f;
 		fixtureDef.restitution = 0.8f; // bounciness
+		CollisionFilter.apply(fixtureDef, type);
 		fixture = solidBody.createFixture(fixtureDef);
+		fixture.setUserData(this);
+	}
+	
+	/**
+	 * Moves the body next to its source, activates it and sends
+	 * it towards the target.
+	 * @param sourceX shooter's X coordinate.
+	 * @param sourceY shooter's Y coordinate.
+	 * @param targetX target's X coordinate.
+	 * @param targetY target's Y coordinate.
+	 * @param bulletDamage projectile's damage
+	 */
+	public void fire(final float sourceX, final float sourceY,
+			final float targetX, final float targetY, final float bulletDamage) {
+		damage = bulletDamage;
+		accumulator = 0;
+		aim(sourceX, sourceY, targetX, targetY);
+		Vector2 quad = determineQuadrant();
+		solidBody.setTransform(sourceX + quad.x, sourceY + quad.y, 0);
+		solidBody.setUserData(type);
+		solidBody.setActive(true);
+		solidBody.setLinearVelocity(calculateVelocity());
+	}
+	
+	/**
+	 * Sets the differences in X and Y between the source and the target.
+	 * @param sourceX shooter's X coordinate.
+	 * @param sourceY shooter's Y coordinate.
+	 * @param targetX target's X coordinate.
+	 * @param targetY target's Y coordinate.
+	 */
+	protected void aim(final float sourceX, final float sourceY,
+			final float targetX, final float targetY) {
+		dX = targetX - sourceX;
+		dY = targetY - sourceY;
+	}
+	
+	/**
+	 * Stops and deactivates the body so it takes no part in the
+	 * simulation or rendering until fired again.
+	 */
+	public void park() {
+		solidBody.setActive(false);
+		solidBody.setLinearVelocity(0, 0);
+		solidBody.setUserData(EntityType.POOLED);
+		owner = null;
 	}
 
 	/**
@@ -103,21 +154,26 @@ public class Projectile {
 	 * to calculate how much X and Y velocities should be used with respect to 
 	 * the Projectile's maximum velocity in order to angle the trajectory accurately.
 	 * Formula to determine X + Y velocities: BF(n) = B(n/(n+1)) + B(1/(n+1)),
-	 * where n is X/Y slope and B is max velocity.
-	 * @return vel velocity
+	 * where n is X/Y slope and B is max velocity. n/(n+1) is computed as
+	 * |X|/(|X|+|Y|) so a level shot, where Y is 0, is not NaN.
+	 * @return vel velocity, reused by the next call
 	 */
 	public Vector2 calculateVelocity() {
-		Vector2 vel = new Vector2();
-		float slope = Math.abs(dX / dY);
+		Vector2 vel = vec.setZero();
+		float sum = Math.abs(dX) + Math.abs(dY);
+		if (sum == 0) {
+			return vel;
+		}
+		float xShare = Math.abs(dX) / sum;
 		if (dX > 0) {
-			vel.x = maxVelocity * (slope / (slope + 1));
+			vel.x = maxVelocity * xShare;
 		} else if (dX < 0) {
-			vel.x = -maxVelocity * (slope / (slope + 1));
+			vel.x = -maxVelocity * xShare;
 		}
 		if (dY >= 0) {
-			vel.y = maxVelocity * (1 / (slope + 1));
+			vel.y = maxVelocity * (1 - xShare);
 		} else if (dY < 0) {
-			vel.y = -maxVelocity * (1 / (slope + 1));
+			vel.y = -maxVelocity * (1 - xShare);
 		}
 		return vel;
 	}
@@ -125,11 +181,12 @@ public class Projectile {
 	/**
 	 * Determines which corner of the player to spawn the projectile to avoid
 	 * intersecting with the player.
-	 * @return vector signifying quadrant of player.
+	 * @return vector signifying quadrant of player, reused by the next
+	 * call to this or calculateVelocity.
 	 */
 	public Vector2 determineQuadrant() {
 		float displacement = .1f;
-		Vector2 quad = new Vector2();
+		Vector2 quad = vec.setZero();
 		if (dX > 0) {
 			quad.x = displacement;
 		} else if (dX < 0) {
@@ -154,15 +211,11 @@ public class Projectile {
 	/**
 	 * Accumulates time until the despawn time is reached.
 	 * @param time difference between frames.
-	 * @return true if the projectile has been set for deletion
+	 * @return true if the projectile is ready to return to its pool
 	 */
 	public boolean deletable(final float time) {
 		accumulator += time;
-		if (accumulator >= despawnTime) {
-			solidBody.setUserData("deletable");
-			return true;
-		}
-		return false;
+		return accumulator >= despawnTime;
 	}
 	
 	/**
@@ -172,14 +225,6 @@ public class Projectile {
 		accumulator = despawnTime;
 	}
 	
-	/**
-	 * Sets body's maximum velocity.
-	 * @param v velocity
-	 */
-	public void setMaxVelocity(final int v) {
-		maxVelocity = v;
-	}
-	
 	/**
 	 * Sets difference in Y between source and target.
 	 * @param dY deltaY
@@ -188,6 +233,30 @@ public class Projectile {
 		this.dY = dY;
 	}
 	
+	/**
+	 * Returns the kind of projectile.
+	 * @return type
+	 */
+	public EntityType getType() {
+		return type;
+	}
+	
+	/**
+	 * Sets whoever fired the projectile.
+	 * @param owner shooter
+	 */
+	public void setOwner(final Object owner) {
+		this.owner = owner;
+	}
+	
+	/**
+	 * Returns whoever fired the projectile last.
+	 * @return owner
+	 */
+	public Object getOwner() {
+		return owner;
+	}
+	
 	/**
 	 * Returns physical body.
 	 * @return projectile's physical body
@@ -0,0 +1,180 @@
+package com.mygdx.game; 
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * ProjectilePool class keeps a stock of projectiles of one type whose
+ * Box2D bodies have already been created. Firing reactivates a parked
+ * body instead of building a new one through JNI, and expired or spent
+ * projectiles are parked again rather than destroyed. If the stock
+ * runs out a new projectile is created and kept, so the pool grows to
+ * the peak demand. The pool also holds the projectiles in flight and
+ * ages them every update, so whoever fires a projectile does not need
+ * to track it.
+ * 
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class ProjectilePool {
+	
+	/** Simulation the bodies are built in. */
+	private final Simulation sim;
+	
+	/** Kind of projectile held. */
+	private final EntityType type;
+	
+	/** Speed of every projectile held. */
+	private final int speed;
+	
+	/** Parked projectiles ready to be fired. */
+	private final Array<Projectile> free;
+	
+	/** Projectiles in flight. */
+	private final Array<Projectile> active;
+	
+	/** Number of projectiles created up front. */
+	private final int initialSize;
+	
+	/** Total projectiles created, including growth. */
+	private int created;
+	
+	/** Most projectiles in flight at once. */
+	private int peakActive;
+	
+	/**
+	 * Creates the initial stock.
+	 * @param sim simulation the bodies are built in
+	 * @param type kind of projectile, used for tagging and collision filtering
+	 * @param speed projectile speed
+	 * @param initialSize projectiles to create up front
+	 */
+	public ProjectilePool(final Simulation sim, final EntityType type,
+			final int speed, final int initialSize) {
+		this.sim = sim;
+		this.type = type;
+		this.speed = speed;
+		this.initialSize = initialSize;
+		free = new Array<Projectile>(false, initialSize);
+		active = new Array<Projectile>(false, initialSize);
+		while (created < initialSize) {
+			Projectile p = new Projectile(sim, type, speed);
+			p.park();
+			free.add(p);
+			created++;
+		}
+	}
+	
+	/**
+	 * Takes a projectile from the pool, creating one if none are free,
+	 * and fires it.
+	 * @param owner whoever fired it
+	 * @param sourceX shooter's X coordinate
+	 * @param sourceY shooter's Y coordinate
+	 * @param targetX target's X coordinate
+	 * @param targetY target's Y coordinate
+	 * @param damage projectile's damage
+	 * @return projectile
+	 */
+	public Projectile fire(final Object owner, final float sourceX, final float sourceY,
+			final float targetX, final float targetY, final float damage) {
+		Projectile p;
+		if (free.size > 0) {
+			p = free.pop();
+		} else {
+			p = new Projectile(sim, type, speed);
+			created++;
+		}
+		p.setOwner(owner);
+		p.fire(sourceX, sourceY, targetX, targetY, damage);
+		active.add(p);
+		if (active.size > peakActive) {
+			peakActive = active.size;
+		}
+		return p;
+	}
+	
+	/**
+	 * Ages every projectile in flight and returns each one that has
+	 * expired or hit something to the pool.
+	 * @param time time between frames
+	 */
+	public void update(final float time) {
+		for (int i = active.size - 1; i >= 0; i--) {
+			if (active.get(i).deletable(time)) {
+				free(i);
+			}
+		}
+	}
+	
+	/**
+	 * Returns every projectile in flight fired by an owner to the pool.
+	 * @param owner whoever fired them
+	 */
+	public void freeAll(final Object owner) {
+		for (int i = active.size - 1; i >= 0; i--) {
+			if (active.get(i).getOwner() == owner) {
+				free(i);
+			}
+		}
+	}
+	
+	/**
+	 * Returns every projectile in flight to the pool.
+	 */
+	public void freeAll() {
+		for (int i = active.size - 1; i >= 0; i--) {
+			free(i);
+		}
+	}
+	
+	/**
+	 * Parks a projectile in flight and returns it to the pool.
+	 * @param i index in the projectiles in flight
+	 */
+	private void free(final int i) {
+		Projectile p = active.removeIndex(i);
+		p.park();
+		free.add(p);
+	}
+	
+	/**
+	 * Returns the number of parked projectiles.
+	 * @return free count
+	 */
+	public int getFree() {
+		return free.size;
+	}
+	
+	/**
+	 * Returns the number of projectiles in flight.
+	 * @return active count
+	 */
+	public int getActive() {
+		return active.size;
+	}
+	
+	/**
+	 * Returns the most projectiles in flight at once.
+	 * @return peak active count
+	 */
+	public int getPeakActive() {
+		return peakActive;
+	}
+	
+	/**
+	 * Returns the number of projectiles created beyond the initial size.
+	 * @return growth
+	 */
+	public int getGrowth() {
+		return created - initialSize;
+	}
+	
+	/**
+	 * Summarizes pool usage.
+	 * @return usage
+	 */
+	@Override
+	public String toString() {
+		return "size " + created + " (initial " + initialSize + "), active " + active.size
+				+ ", peak " + peakActive + ", free " + free.size;
+	}
+}
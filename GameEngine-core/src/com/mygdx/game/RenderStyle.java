@@ -0,0 +1,77 @@
+package com.mygdx.game; 
+
+import com.badlogic.gdx.graphics.Color;
+
+/**
+ * How each kind of body is drawn: its fill color and radius. Styles
+ * are looked up by EntityType ordinal, and types without a style,
+ * such as walls and parked projectiles, are not drawn.
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public final class RenderStyle {
+	
+	/** Style of each type by ordinal, null if not drawn. */
+	private static final RenderStyle[] STYLES = new RenderStyle[EntityType.values().length];
+	
+	static {
+		define(EntityType.PLAYER, new Color(1, 1, 1, 1), GameEngine.getPlayRadius());
+		define(EntityType.PLAYER_PROJECTILE, new Color(.95f, .95f, .95f, 1), 
+				GameEngine.getProjRadius());
+		define(EntityType.ENEMY_PROJECTILE, new Color(1f, .75f, .75f, 1), 
+				GameEngine.getProjRadius());
+		define(EntityType.SWARMER, new Color(1f, .4f, .4f, 1), GameEngine.getSwarmRadius());
+		define(EntityType.SPITTER, new Color(1f, .2f, .2f, 1), GameEngine.getSpitterRadius());
+		define(EntityType.DEMON, new Color(1, 0, 0, 1), GameEngine.getDemonRadius());
+	}
+	
+	/** Fill color. */
+	private final Color color;
+	
+	/** Radius in meters. */
+	private final float radius;
+	
+	/**
+	 * 
+	 * @param color fill color
+	 * @param radius radius in meters
+	 */
+	private RenderStyle(final Color color, final float radius) {
+		this.color = color;
+		this.radius = radius;
+	}
+	
+	/**
+	 * 
+	 * @param type entity type
+	 * @param color fill color
+	 * @param radius radius in meters
+	 */
+	private static void define(final EntityType type, final Color color, final float radius) {
+		STYLES[type.ordinal()] = new RenderStyle(color, radius);
+	}
+	
+	/**
+	 * Returns the style of a type.
+	 * @param type entity type
+	 * @return style, or null if the type is not drawn
+	 */
+	public static RenderStyle of(final EntityType type) {
+		return STYLES[type.ordinal()];
+	}
+	
+	/**
+	 * Returns the fill color.
+	 * @return color
+	 */
+	public Color getColor() {
+		return color;
+	}
+	
+	/**
+	 * Returns the radius.
+	 * @return radius in meters
+	 */
+	public float getRadius() {
+		return radius;
+	}
+}
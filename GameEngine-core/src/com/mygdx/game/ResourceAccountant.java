@@ -0,0 +1,163 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * ResourceAccountant class keeps count of the native Box2D resources
+ * the simulation holds: bodies, fixtures and shapes. Bodies and
+ * fixtures are counted from the world when sampled, shapes as they
+ * are created and disposed. The most recent samples are kept so that
+ * resources that only ever grow, a leak, can be detected.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class ResourceAccountant {
+
+	/** Samples kept by default. */
+	public static final int DEFAULT_HISTORY = 10;
+
+	/** Shapes created and not yet disposed. */
+	private int shapes;
+
+	/** Bodies in the world when last sampled. */
+	private int bodies;
+
+	/** Fixtures in the world when last sampled. */
+	private int fixtures;
+
+	/** Bodies at each kept sample, oldest first. */
+	private final int[] bodyHistory;
+
+	/** Fixtures at each kept sample, oldest first. */
+	private final int[] fixtureHistory;
+
+	/** Shapes at each kept sample, oldest first. */
+	private final int[] shapeHistory;
+
+	/** Number of samples kept, up to the history length. */
+	private int samples;
+
+	/** Scratch array the world's bodies are copied into. */
+	private final Array<Body> bodyList;
+
+	/**
+	 *
+	 * @param history samples kept to detect growth
+	 */
+	public ResourceAccountant(final int history) {
+		bodyHistory = new int[history];
+		fixtureHistory = new int[history];
+		shapeHistory = new int[history];
+		bodyList = new Array<Body>();
+	}
+
+	/**
+	 * Counts a shape created.
+	 */
+	public void shapeCreated() {
+		shapes++;
+	}
+
+	/**
+	 * Counts a shape disposed.
+	 */
+	public void shapeDisposed() {
+		shapes--;
+	}
+
+	/**
+	 * Counts the world's bodies and fixtures and keeps a sample of
+	 * every count, dropping the oldest sample once the history is full.
+	 * @param world world to count
+	 */
+	public void sample(final World world) {
+		world.getBodies(bodyList);
+		bodies = bodyList.size;
+		fixtures = 0;
+		for (int i = 0; i < bodyList.size; i++) {
+			fixtures += bodyList.get(i).getFixtureList().size;
+		}
+		push(bodyHistory, bodies);
+		push(fixtureHistory, fixtures);
+		push(shapeHistory, shapes);
+		if (samples < bodyHistory.length) {
+			samples++;
+		}
+	}
+
+	/**
+	 * Appends a count to a history.
+	 * @param history history
+	 * @param count count
+	 */
+	private void push(final int[] history, final int count) {
+		if (samples < history.length) {
+			history[samples] = count;
+		} else {
+			System.arraycopy(history, 1, history, 0, history.length - 1);
+			history[history.length - 1] = count;
+		}
+	}
+
+	/**
+	 * Returns true if the history is full and bodies, fixtures or
+	 * shapes never fell across it and ended higher than they began.
+	 * @return true if a resource appears to leak
+	 */
+	public boolean isGrowing() {
+		if (samples < bodyHistory.length) {
+			return false;
+		}
+		return rising(bodyHistory) || rising(fixtureHistory) || rising(shapeHistory);
+	}
+
+	/**
+	 *
+	 * @param history history
+	 * @return true if no sample is below the one before and the last
+	 * is above the first
+	 */
+	private static boolean rising(final int[] history) {
+		for (int i = 1; i < history.length; i++) {
+			if (history[i] < history[i - 1]) {
+				return false;
+			}
+		}
+		return history[history.length - 1] > history[0];
+	}
+
+	/**
+	 * Returns the bodies when last sampled.
+	 * @return bodies
+	 */
+	public int getBodies() {
+		return bodies;
+	}
+
+	/**
+	 * Returns the fixtures when last sampled.
+	 * @return fixtures
+	 */
+	public int getFixtures() {
+		return fixtures;
+	}
+
+	/**
+	 * Returns the shapes created and not yet disposed.
+	 * @return shapes
+	 */
+	public int getShapes() {
+		return shapes;
+	}
+
+	/**
+	 * Returns the counts for logging.
+	 * @return description
+	 */
+	@Override
+	public String toString() {
+		return "bodies " + bodies + ", fixtures " + fixtures + ", shapes " + shapes;
+	}
+}
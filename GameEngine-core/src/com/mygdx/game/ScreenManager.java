@@ -16,6 +16,24 @@ public class ScreenManager extends Game {
 	/**   */
 	private BitmapFont font;
 	
+	/** Told of the events of each game played. */
+	private final Telemetry telemetry;
+	
+	/**
+	 * 
+	 */
+	public ScreenManager() {
+		this(new Telemetry());
+	}
+	
+	/**
+	 * 
+	 * @param telemetry told of the events of each game played
+	 */
+	public ScreenManager(final Telemetry telemetry) {
+		this.telemetry = telemetry;
+	}
+	
 	/**
 	 * 
 	 */
@@ -34,6 +52,14 @@ public class ScreenManager extends Game {
 		super.render(); //important!
 	}
 	
+	/**
+	 * Returns the telemetry told of the events of each game played.
+	 * @return telemetry
+	 */
+	public Telemetry getTelemetry() {
+		return telemetry;
+	}
+	
 	/**
 	 * 
 	 */
@@ -0,0 +1,65 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * SharedShapes class holds one circle shape per entity type. Box2D
+ * copies a shape into each fixture created from it, so every body of
+ * a type can be built from the same native shape, which is disposed
+ * once when the simulation ends instead of leaking with every body.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class SharedShapes implements Disposable {
+
+	/** Circle of each entity type by ordinal, null until first used. */
+	private final CircleShape[] circles;
+
+	/** Counts the shapes created and disposed. */
+	private final ResourceAccountant accountant;
+
+	/**
+	 *
+	 * @param accountant counts the shapes created and disposed
+	 */
+	public SharedShapes(final ResourceAccountant accountant) {
+		this.accountant = accountant;
+		circles = new CircleShape[EntityType.values().length];
+	}
+
+	/**
+	 * Returns the circle of an entity type, creating it on first use.
+	 * The shape must not be changed or disposed by the caller.
+	 * @param type entity type
+	 * @param radius radius of the type's circle
+	 * @return shared circle
+	 */
+	public CircleShape circle(final EntityType type, final float radius) {
+		CircleShape circle = circles[type.ordinal()];
+		if (circle == null) {
+			circle = new CircleShape();
+			circle.setRadius(radius);
+			circles[type.ordinal()] = circle;
+			accountant.shapeCreated();
+		} else if (circle.getRadius() != radius) {
+			throw new IllegalArgumentException("Radius of " + type
+					+ " already shared as " + circle.getRadius());
+		}
+		return circle;
+	}
+
+	/**
+	 * Disposes every shape created.
+	 */
+	@Override
+	public void dispose() {
+		for (int i = 0; i < circles.length; i++) {
+			if (circles[i] != null) {
+				circles[i].dispose();
+				circles[i] = null;
+				accountant.shapeDisposed();
+			}
+		}
+	}
+}
@@ -0,0 +1,453 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Simulation class owns the game's physical state: the Box2D world,
+ * the player, the enemies and the contact listener. It advances them
+ * one fixed tick at a time through its pipeline and touches no
+ * graphics, audio or input device, so the same simulation runs inside
+ * the game's window or headless, as fast as the CPU allows.
+ *
+ * Input is read each tick from a Controls object.
+ *
+ * Everything a game needs is reached through its simulation, which is
+ * passed to the player, the enemies and the projectiles when they are
+ * built, so several simulations can run at once, each on its own
+ * thread. A simulation must only be used by one thread at a time.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class Simulation {
+
+	/** Box2D velocity constraint solver iterations per tick. */
+	private static final int VELOCITY_ITERATIONS = 6;
+
+	/** Box2D position constraint solver iterations per tick. */
+	private static final int POSITION_ITERATIONS = 2;
+
+	/** Simulated seconds per tick. */
+	private static final float TICK_DELTA = 1 / GameEngine.TICK_RATE;
+
+	/** Arena height in meters.*/
+	private final int arenaHeight;
+
+	/** Arena width in meters.*/
+	private final int arenaWidth;
+
+	/**  Box2D physical object management plane.*/
+	private final World world;
+
+	/**  Bodies to destroy once the current physics step is over.*/
+	private final DestructionQueue destructionQueue;
+
+	/**  Counts the native Box2D resources held.*/
+	private final ResourceAccountant resources;
+
+	/**  Circle shapes shared by every body of a type.*/
+	private final SharedShapes shapes;
+
+	/**  Body definition filled in for each enemy body built.*/
+	private final BodyDef bodyDef;
+
+	/**  Fixture definition filled in for each enemy body built.*/
+	private final FixtureDef fixtureDef;
+
+	/**  Ordered stages run each tick.*/
+	private final FramePipeline pipeline;
+
+	/**  Source of the player's input.*/
+	private final Controls controls;
+
+	/**  Told of the events of this simulation.*/
+	private final Telemetry telemetry;
+
+	/**  X and Y physical wall shapes.*/
+	private PolygonShape xWallBox, wallBox;
+
+	/**  Wall bodies around the arena.*/
+	private int walls;
+
+	/**  Player object.*/
+	private final Player player;
+
+	/**  Spawns, steers and removes the enemies.*/
+	private final EnemyManager eMan;
+
+	/**  Records contacts during the step and resolves them after it.*/
+	private final Listener listener;
+
+	/**  Time counter before a shot is fired.*/
+	private float shotAccumulator;
+
+	/**  Time counter before shotgun is fired.*/
+	private float shotgunAccumulator;
+
+	/**  Ticks run so far.*/
+	private long ticks;
+
+	/**  True once the player has died.*/
+	private boolean over;
+
+	/**
+	 * Creates the world, its walls, the player and the enemy manager.
+	 * @param width arena width in meters
+	 * @param height arena height in meters
+	 * @param controls source of the player's input
+	 */
+	public Simulation(final int width, final int height, final Controls controls) {
+		this(width, height, controls, new Telemetry());
+	}
+
+	/**
+	 * Creates the world, its walls, the player and the enemy manager,
+	 * reporting their events to a telemetry.
+	 * @param width arena width in meters
+	 * @param height arena height in meters
+	 * @param controls source of the player's input
+	 * @param telemetry told of the events of this simulation
+	 */
+	public Simulation(final int width, final int height, final Controls controls,
+			final Telemetry telemetry) {
+		this.controls = controls;
+		this.telemetry = telemetry;
+		arenaWidth = width;
+		arenaHeight = height;
+		world = new World(new Vector2(0, 0), true);
+		destructionQueue = new DestructionQueue();
+		resources = new ResourceAccountant(ResourceAccountant.DEFAULT_HISTORY);
+		shapes = new SharedShapes(resources);
+		bodyDef = new BodyDef();
+		fixtureDef = new FixtureDef();
+		player = new Player(this);
+		eMan = new EnemyManager(this, player);
+		listener = new Listener(this);
+		world.setContactListener(listener);
+		createBorders();
+		pipeline = new FramePipeline(telemetry);
+		buildPipeline();
+	}
+
+	/**
+	 * Registers the stages of a tick in the order they must run:
+	 * input, AI, physics step, contact resolution and cleanup.
+	 */
+	private void buildPipeline() {
+		pipeline.addTickStage(new PipelineStage("input") {
+			@Override
+			public void run(final float step) {
+				controls.poll(Simulation.this);
+				player.update(controls.isRight(), controls.isLeft(),
+						controls.isUp(), controls.isDown(), step);
+				fire(step);
+			}
+		});
+		pipeline.addTickStage(new PipelineStage("ai") {
+			@Override
+			public void run(final float step) {
+				eMan.update(player.getX(), player.getY(), step);
+			}
+		});
+		pipeline.addTickStage(new PipelineStage("physics") {
+			@Override
+			public void run(final float step) {
+				world.step(step, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+			}
+		});
+		pipeline.addTickStage(new PipelineStage("contacts") {
+			@Override
+			public void run(final float step) {
+				listener.resolveContacts();
+			}
+		});
+		pipeline.addTickStage(new PipelineStage("cleanup") {
+			@Override
+			public void run(final float step) {
+				cleanupBodies();
+			}
+		});
+	}
+
+	/**
+	 * Runs one fixed tick.
+	 * @param step simulated seconds
+	 */
+	public void tick(final float step) {
+		pipeline.tick(step);
+		ticks++;
+	}
+
+	/**
+	 * Starts a new session in the same world: destroys every enemy,
+	 * parks every projectile, puts the player back at the start and
+	 * restarts the timers. The world, its walls, the shared shapes and
+	 * the projectile pools are kept, so this takes far less time than
+	 * building a new simulation. Must not be called during a tick.
+	 */
+	public void reset() {
+		eMan.reset();
+		player.reset();
+		destructionQueue.drain(world);
+		shotAccumulator = 0;
+		shotgunAccumulator = 0;
+		ticks = 0;
+		over = false;
+	}
+
+	/**
+	 * Updates the shot timers and tells Player to fire a projectile
+	 * or shotgun projectiles if the controls ask for it.
+	 * @param step simulated seconds
+	 */
+	private void fire(final float step) {
+		shotAccumulator += step;
+		shotgunAccumulator += step;
+		if (shotAccumulator >= player.getShotTime() && controls.isFiring()) {
+			player.fireProjectile(controls.getAimX(), controls.getAimY());
+			shotAccumulator = 0;
+			onShot(false);
+		}
+		if (shotgunAccumulator >= player.getShotgunTime() && controls.isShotgun()) {
+			player.fireShotgun(controls.getAimX(), controls.getAimY());
+			shotAccumulator = -1;
+			shotgunAccumulator = 0;
+			onShot(true);
+		}
+	}
+
+	/**
+	 * Destroys the bodies queued for destruction during this tick.
+	 * Ends the simulation if the player has died.
+	 */
+	private void cleanupBodies() {
+		if (player.getHealth() <= 0) {
+			over = true;
+		}
+		destructionQueue.drain(world);
+	}
+
+	/**
+	 * Called after the player fires. Does nothing by default.
+	 * @param shotgun true for the shotgun
+	 */
+	protected void onShot(final boolean shotgun) {
+	}
+
+	/**
+	 * Called after an enemy hits the player. Does nothing by default.
+	 */
+	protected void onPlayerHit() {
+	}
+
+	/**
+	 * Generates physical boundaries at the edge of the arena.
+	 */
+	private void createBorders() {
+		// Floor
+		BodyDef xWallDef = new BodyDef();
+		xWallDef.position.set(0, 0);
+		xWallBox = new PolygonShape();
+		xWallBox.setAsBox(arenaWidth, 0.0f);
+		resources.shapeCreated();
+		createWall(xWallDef, xWallBox);
+
+		// Ceiling
+		xWallDef.position.set(0, arenaHeight);
+		createWall(xWallDef, xWallBox);
+
+		// Wall 1
+		BodyDef wallDef = new BodyDef();
+		wallDef.position.set(0, 0);
+		wallBox = new PolygonShape();
+		wallBox.setAsBox(0, arenaHeight);
+		resources.shapeCreated();
+		createWall(wallDef, wallBox);
+
+		// Wall 2
+		wallDef.position.set(arenaWidth, 0);
+		createWall(wallDef, wallBox);
+	}
+
+	/**
+	 * Creates one static wall body.
+	 * @param def body definition
+	 * @param shape wall shape
+	 */
+	private void createWall(final BodyDef def, final PolygonShape shape) {
+		Body wall = world.createBody(def);
+		wall.setUserData(EntityType.WALL);
+		Fixture fixture = wall.createFixture(shape, 0.0f);
+		fixture.setUserData(this);
+		CollisionFilter.apply(fixture, EntityType.WALL);
+		walls++;
+	}
+
+	/**
+	 * Increments player's enemy kill count.
+	 */
+	public void incrementKillCount() {
+		player.incrementKillCount();
+	}
+
+	/**
+	 * Returns true once the player has died.
+	 * @return over
+	 */
+	public boolean isOver() {
+		return over;
+	}
+
+	/**
+	 * Returns the number of ticks run so far.
+	 * @return ticks
+	 */
+	public long getTicks() {
+		return ticks;
+	}
+
+	/**
+	 * Returns the player instance.
+	 * @return player.
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Returns the enemy manager.
+	 * @return eMan.
+	 */
+	public EnemyManager getEnemyManager() {
+		return eMan;
+	}
+
+	/**
+	 * Returns the telemetry told of the events of this simulation.
+	 * @return telemetry.
+	 */
+	public Telemetry getTelemetry() {
+		return telemetry;
+	}
+
+	/**
+	 * Returns the pipeline the tick stages run in. Frame stages may be
+	 * added to it by whatever draws the simulation.
+	 * @return pipeline.
+	 */
+	public FramePipeline getPipeline() {
+		return pipeline;
+	}
+
+	/**
+	 * Returns the world instance.
+	 * @return world.
+	 */
+	public World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Returns the queue of bodies to destroy after the physics step.
+	 * @return destructionQueue.
+	 */
+	public DestructionQueue getDestructionQueue() {
+		return destructionQueue;
+	}
+
+	/**
+	 * Returns the shapes shared by every body of a type.
+	 * @return shapes.
+	 */
+	public SharedShapes getShapes() {
+		return shapes;
+	}
+
+	/**
+	 * Returns the body definition enemy bodies are built from. Only
+	 * used on the simulation's thread, which fills it in for each body.
+	 * @return bodyDef.
+	 */
+	public BodyDef getBodyDef() {
+		return bodyDef;
+	}
+
+	/**
+	 * Returns the fixture definition enemy fixtures are built from.
+	 * Only used on the simulation's thread, which fills it in for each
+	 * fixture.
+	 * @return fixtureDef.
+	 */
+	public FixtureDef getFixtureDef() {
+		return fixtureDef;
+	}
+
+	/**
+	 * Returns the accountant of native Box2D resources.
+	 * @return resources.
+	 */
+	public ResourceAccountant getResources() {
+		return resources;
+	}
+
+	/**
+	 * Returns the simulated time of one tick. Gameplay timers advance
+	 * by this amount so they are unaffected by the frame rate. The
+	 * same for every simulation.
+	 * @return difference in time between ticks.
+	 */
+	public static float getDeltaTime() {
+		return TICK_DELTA;
+	}
+
+	/**
+	 * Returns the wall bodies around the arena, which are kept for the
+	 * life of the simulation.
+	 * @return wall count.
+	 */
+	public int getWallCount() {
+		return walls;
+	}
+
+	/**
+	 * Returns the players in the world, each with one body kept for
+	 * the life of the simulation. A simulation has a single player.
+	 * @return player count.
+	 */
+	public int getPlayerCount() {
+		return 1;
+	}
+
+	/**
+	 * Returns the arena's height in meters.
+	 * @return arena height.
+	 */
+	public int getArenaHeight() {
+		return arenaHeight;
+	}
+
+	/**
+	 * Returns the arena's width in meters.
+	 * @return arena width.
+	 */
+	public int getArenaWidth() {
+		return arenaWidth;
+	}
+
+	/**
+	 * Releases the world and the shapes owned by the simulation.
+	 */
+	public void dispose() {
+		world.dispose();
+		shapes.dispose();
+		xWallBox.dispose();
+		wallBox.dispose();
+		resources.shapeDisposed();
+		resources.shapeDisposed();
+	}
+}
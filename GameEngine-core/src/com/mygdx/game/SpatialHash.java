@@ -0,0 +1,244 @@
+package com.mygdx.game; 
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * SpatialHash class is a uniform grid index of entity positions. Each
+ * entry is bucketed into the cell containing it, so a query only has
+ * to look at the few cells its area touches instead of every entity in
+ * the world. The index is rebuilt from scratch once per tick. Positions
+ * outside the grid bounds are clamped into the border cells.
+ * 
+ * Buckets are stored as linked lists threaded through primitive arrays,
+ * so rebuilding the index does not allocate once it has grown to the
+ * entity count. Each entry may carry an int tag, such as an enemy's
+ * store slot, so callers can find what they need without casting the
+ * objects found.
+ * 
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class SpatialHash {
+	
+	/** Marks the end of a bucket. */
+	private static final int NONE = -1;
+	
+	/** Width and height of a cell in meters. */
+	private final float cellSize;
+	
+	/** Number of cell columns. */
+	private final int cols;
+	
+	/** Number of cell rows. */
+	private final int rows;
+	
+	/** First entry of each cell, or NONE. */
+	private final int[] heads;
+	
+	/** Next entry in the same cell, or NONE. */
+	private int[] next;
+	
+	/** X position of each entry. */
+	private float[] xs;
+	
+	/** Y position of each entry. */
+	private float[] ys;
+	
+	/** Object stored with each entry. */
+	private Object[] items;
+	
+	/** Tag of each entry, or NONE. */
+	private int[] tags;
+	
+	/** Number of entries. */
+	private int size;
+	
+	/**
+	 * 
+	 * @param width width of the indexed area in meters
+	 * @param height height of the indexed area in meters
+	 * @param cellSize width and height of a cell in meters
+	 */
+	public SpatialHash(final float width, final float height, final float cellSize) {
+		this.cellSize = cellSize;
+		cols = Math.max(1, (int) Math.ceil(width / cellSize));
+		rows = Math.max(1, (int) Math.ceil(height / cellSize));
+		heads = new int[cols * rows];
+		Arrays.fill(heads, NONE);
+		next = new int[64];
+		xs = new float[64];
+		ys = new float[64];
+		items = new Object[64];
+		tags = new int[64];
+	}
+	
+	/**
+	 * Removes every entry.
+	 */
+	public void clear() {
+		Arrays.fill(heads, NONE);
+		Arrays.fill(items, 0, size, null);
+		size = 0;
+	}
+	
+	/**
+	 * Adds an entry at a position.
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 * @param item object stored with the entry
+	 */
+	public void insert(final float x, final float y, final Object item) {
+		insert(x, y, item, NONE);
+	}
+	
+	/**
+	 * Adds a tagged entry at a position.
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 * @param item object stored with the entry
+	 * @param tag non-negative tag returned by tag queries
+	 */
+	public void insert(final float x, final float y, final Object item, final int tag) {
+		if (size == next.length) {
+			grow();
+		}
+		int cell = cellY(y) * cols + cellX(x);
+		xs[size] = x;
+		ys[size] = y;
+		items[size] = item;
+		tags[size] = tag;
+		next[size] = heads[cell];
+		heads[cell] = size;
+		size++;
+	}
+	
+	/**
+	 * Returns true if any entry lies strictly inside the square
+	 * of the given half width centered on a point.
+	 * @param x center x coordinate
+	 * @param y center y coordinate
+	 * @param halfExtent half the width of the square
+	 * @return true if overlapped
+	 */
+	public boolean overlaps(final float x, final float y, final float halfExtent) {
+		int minX = cellX(x - halfExtent);
+		int maxX = cellX(x + halfExtent);
+		int minY = cellY(y - halfExtent);
+		int maxY = cellY(y + halfExtent);
+		for (int cy = minY; cy <= maxY; cy++) {
+			for (int cx = minX; cx <= maxX; cx++) {
+				for (int i = heads[cy * cols + cx]; i != NONE; i = next[i]) {
+					if (Math.abs(xs[i] - x) < halfExtent && Math.abs(ys[i] - y) < halfExtent) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Adds every entry within a radius of a point to the output array.
+	 * @param x center x coordinate
+	 * @param y center y coordinate
+	 * @param radius search radius
+	 * @param out receives the items found
+	 */
+	public void query(final float x, final float y, final float radius, 
+			final Array<Object> out) {
+		float radius2 = radius * radius;
+		int minX = cellX(x - radius);
+		int maxX = cellX(x + radius);
+		int minY = cellY(y - radius);
+		int maxY = cellY(y + radius);
+		for (int cy = minY; cy <= maxY; cy++) {
+			for (int cx = minX; cx <= maxX; cx++) {
+				for (int i = heads[cy * cols + cx]; i != NONE; i = next[i]) {
+					float dx = xs[i] - x;
+					float dy = ys[i] - y;
+					if (dx * dx + dy * dy <= radius2) {
+						out.add(items[i]);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Fills the output array with the tags of entries within a radius
+	 * of a point, skipping untagged entries, and stops once it is full.
+	 * Entries are visited cell by cell, not nearest first.
+	 * @param x center x coordinate
+	 * @param y center y coordinate
+	 * @param radius search radius
+	 * @param out receives the tags found
+	 * @return number of tags found
+	 */
+	public int query(final float x, final float y, final float radius, final int[] out) {
+		float radius2 = radius * radius;
+		int minX = cellX(x - radius);
+		int maxX = cellX(x + radius);
+		int minY = cellY(y - radius);
+		int maxY = cellY(y + radius);
+		int found = 0;
+		for (int cy = minY; cy <= maxY; cy++) {
+			for (int cx = minX; cx <= maxX; cx++) {
+				for (int i = heads[cy * cols + cx]; i != NONE; i = next[i]) {
+					if (tags[i] == NONE) {
+						continue;
+					}
+					float dx = xs[i] - x;
+					float dy = ys[i] - y;
+					if (dx * dx + dy * dy <= radius2) {
+						out[found++] = tags[i];
+						if (found == out.length) {
+							return found;
+						}
+					}
+				}
+			}
+		}
+		return found;
+	}
+	
+	/**
+	 * Returns the number of entries.
+	 * @return size
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns the column containing an x coordinate.
+	 * @param x x coordinate
+	 * @return clamped column
+	 */
+	private int cellX(final float x) {
+		int c = (int) (x / cellSize);
+		return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+	}
+	
+	/**
+	 * Returns the row containing a y coordinate.
+	 * @param y y coordinate
+	 * @return clamped row
+	 */
+	private int cellY(final float y) {
+		int r = (int) (y / cellSize);
+		return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+	}
+	
+	/**
+	 * Doubles the entry capacity.
+	 */
+	private void grow() {
+		int capacity = next.length * 2;
+		next = Arrays.copyOf(next, capacity);
+		xs = Arrays.copyOf(xs, capacity);
+		ys = Arrays.copyOf(ys, capacity);
+		items = Arrays.copyOf(items, capacity);
+		tags = Arrays.copyOf(tags, capacity);
+	}
+}
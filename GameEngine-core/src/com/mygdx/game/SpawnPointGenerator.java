@@ -0,0 +1,99 @@
+package com.mygdx.game; 
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * SpawnPointGenerator class picks enemy spawn points away from the
+ * player. Candidates are drawn uniformly from the annulus between a
+ * minimum distance and the farthest corner of the arena around the
+ * player, and candidates outside the arena are rejected, so accepted
+ * points are spread uniformly over the part of the annulus inside the
+ * arena. The number of draws per request is bounded; if none succeeds
+ * the request fails and is counted instead of looping until it does.
+ * 
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class SpawnPointGenerator {
+	
+	/** Most candidates drawn per request. */
+	private final int maxAttempts;
+	
+	/** Arena width in meters. */
+	private final float width;
+	
+	/** Arena height in meters. */
+	private final float height;
+	
+	/** Source of randomness. */
+	private final Random rand;
+	
+	/** Number of requests that found no valid point. */
+	private int failures;
+	
+	/**
+	 * 
+	 * @param width arena width in meters
+	 * @param height arena height in meters
+	 * @param maxAttempts most candidates drawn per request
+	 * @param rand source of randomness
+	 */
+	public SpawnPointGenerator(final float width, final float height, 
+			final int maxAttempts, final Random rand) {
+		this.width = width;
+		this.height = height;
+		this.maxAttempts = maxAttempts;
+		this.rand = rand;
+	}
+	
+	/**
+	 * Finds a point at least minDistance from the player and at least
+	 * margin from every edge of the arena.
+	 * @param playerX player's x coordinate
+	 * @param playerY player's y coordinate
+	 * @param minDistance closest a spawn may be to the player
+	 * @param margin closest a spawn may be to the arena edge
+	 * @param out receives the spawn point
+	 * @return true if a point was found, false if every attempt failed
+	 */
+	public boolean next(final float playerX, final float playerY, final float minDistance,
+			final float margin, final Vector2 out) {
+		float min2 = minDistance * minDistance;
+		// farthest corner of the area a spawn may be in
+		float farX = Math.max(playerX - margin, width - margin - playerX);
+		float farY = Math.max(playerY - margin, height - margin - playerY);
+		float span2 = farX * farX + farY * farY - min2;
+		if (span2 > 0) {
+			for (int i = 0; i < maxAttempts; i++) {
+				// uniform over the annulus' area
+				float r = (float) Math.sqrt(min2 + rand.nextFloat() * span2);
+				float angle = rand.nextFloat() * MathUtils.PI2;
+				float x = playerX + r * MathUtils.cos(angle);
+				float y = playerY + r * MathUtils.sin(angle);
+				if (x >= margin && x <= width - margin && y >= margin && y <= height - margin) {
+					out.set(x, y);
+					return true;
+				}
+			}
+		}
+		failures++;
+		return false;
+	}
+	
+	/**
+	 * Records a request whose point was rejected by the caller.
+	 */
+	public void reject() {
+		failures++;
+	}
+	
+	/**
+	 * Returns the number of requests that found no valid point.
+	 * @return failures
+	 */
+	public int getFailures() {
+		return failures;
+	}
+}
@@ -0,0 +1,103 @@
+package com.mygdx.game;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Telemetry class receives events from the simulation for field
+ * profiling: the start and end of each pipeline stage, enemy spawns,
+ * demon spawns and deaths, and contacts begun per pair of entity
+ * types each step. This class ignores them all. An implementation
+ * emitting Java Flight Recorder events is built separately, since JFR
+ * needs a newer Java than the game targets, and is loaded by load
+ * when it is on the classpath.
+ *
+ * Each simulation is given its telemetry when built, and its
+ * components read it from the simulation when constructed.
+ *
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class Telemetry {
+
+	/** Class emitting Java Flight Recorder events. */
+	private static final String JFR_TELEMETRY = "com.mygdx.game.JfrTelemetry";
+
+	/**
+	 * Creates the Java Flight Recorder telemetry if it is on the
+	 * classpath and the running Java supports it. Otherwise returns
+	 * a telemetry ignoring events.
+	 * @return telemetry
+	 */
+	public static Telemetry load() {
+		try {
+			return (Telemetry) Class.forName(JFR_TELEMETRY)
+					.getDeclaredConstructor().newInstance();
+		} catch (ClassNotFoundException e) {
+			// not built with JFR support
+		} catch (NoSuchMethodException e) {
+			// built without a no-argument constructor
+		} catch (InstantiationException e) {
+			// built abstract
+		} catch (IllegalAccessException e) {
+			// built with a constructor that is not public
+		} catch (InvocationTargetException e) {
+			// JFR failed to register the event types
+		} catch (LinkageError e) {
+			// JFR is missing or this Java is too old for the class
+		}
+		return new Telemetry();
+	}
+
+	/**
+	 * Returns true if events are being recorded, so that callers can
+	 * skip gathering data for them otherwise.
+	 * @return false
+	 */
+	public boolean isEnabled() {
+		return false;
+	}
+
+	/**
+	 * Called before a pipeline stage runs.
+	 * @param stage stage
+	 */
+	public void stageBegin(final PipelineStage stage) {
+	}
+
+	/**
+	 * Called after a pipeline stage has run.
+	 * @param stage stage
+	 */
+	public void stageEnd(final PipelineStage stage) {
+	}
+
+	/**
+	 * Called after enemies of a type are spawned.
+	 * @param type enemy type
+	 * @param requested enemies meant to spawn
+	 * @param spawned enemies that found room to spawn
+	 */
+	public void spawned(final EntityType type, final int requested, final int spawned) {
+	}
+
+	/**
+	 * Called after a demon is spawned.
+	 */
+	public void demonSpawned() {
+	}
+
+	/**
+	 * Called after a demon is slain.
+	 */
+	public void demonSlain() {
+	}
+
+	/**
+	 * Called after a step for each pair of types whose contacts began
+	 * during it, when enabled.
+	 * @param a first type, the lower ordinal
+	 * @param b second type
+	 * @param count contacts begun
+	 */
+	public void contacts(final EntityType a, final EntityType b, final int count) {
+	}
+}
@@ -0,0 +1,92 @@
+package com.mygdx.game;
+
+/**
+ * WeaponSystem fires the volleys of every armed enemy in the store and
+ * ages the enemy projectiles in flight. An armed enemy fires once the
+ * interval since its last volley has passed, unless it is charging.
+ * Each projectile of a volley aims at its own offset from the player,
+ * so a volley of three spreads out around the player.
+ * @author Sean Aubrey, Gabriel Fountain, Brandon Conn
+ */
+public class WeaponSystem {
+
+	/** Horizontal offset from the player each projectile of a volley aims at. */
+	private static final float[] VOLLEY_X = {0, 0, -20};
+
+	/** Vertical offset from the player each projectile of a volley aims at. */
+	private static final float[] VOLLEY_Y = {0, 20, 0};
+
+	/** Shared pool projectiles are drawn from. */
+	private final ProjectilePool pool;
+
+	/**
+	 *
+	 * @param pool shared enemy projectile pool
+	 */
+	public WeaponSystem(final ProjectilePool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns each projectile that has expired or hit something to the
+	 * pool, advances the firing timers and fires every armed enemy
+	 * that is ready.
+	 * @param store enemy store
+	 * @param targetX player's x coordinate
+	 * @param targetY player's y coordinate
+	 * @param delta simulated seconds
+	 */
+	public void update(final EnemyStore store, final float targetX,
+			final float targetY, final float delta) {
+		pool.update(delta);
+		int[] components = store.getComponents();
+		float[] fireTime = store.getFireTime();
+		float[] fireInterval = store.getFireInterval();
+		byte[] chargeState = store.getChargeState();
+		for (int i = 0; i < store.size(); i++) {
+			if ((components[i] & EnemyStore.ARMED) == 0) {
+				continue;
+			}
+			fireTime[i] += delta;
+			if (fireTime[i] >= fireInterval[i] && chargeState[i] == EnemyStore.IDLE) {
+				fire(store, i, targetX, targetY);
+				fireTime[i] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Fires an enemy's volley from its position.
+	 * @param store enemy store
+	 * @param i slot
+	 * @param targetX player's x coordinate
+	 * @param targetY player's y coordinate
+	 */
+	public void fire(final EnemyStore store, final int i,
+			final float targetX, final float targetY) {
+		Enemy owner = store.getEnemy(i);
+		float x = store.getX()[i];
+		float y = store.getY()[i];
+		float damage = store.getBulletDamage()[i];
+		int volley = store.getVolley()[i];
+		for (int k = 0; k < volley; k++) {
+			pool.fire(owner, x, y, targetX + VOLLEY_X[k], targetY + VOLLEY_Y[k], damage);
+		}
+	}
+
+	/**
+	 * Returns every projectile in flight fired by an enemy to the pool,
+	 * before the enemy is destroyed.
+	 * @param e enemy
+	 */
+	public void disarm(final Enemy e) {
+		pool.freeAll(e);
+	}
+
+	/**
+	 * Returns every enemy projectile in flight to the pool.
+	 */
+	public void reset() {
+		pool.freeAll();
+	}
+}